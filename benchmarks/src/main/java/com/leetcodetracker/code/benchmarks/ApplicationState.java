@@ -0,0 +1,95 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.leetcodetracker.code.ServerApplication;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.service.ProblemService;
+import com.leetcodetracker.code.service.UserProgressService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The full server application context on the embedded {@code bench} profile database, started once
+ * per fork and shared by every benchmark thread in it.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ServerApplication.class)
+                .profiles("bench")
+                .run();
+        user = bean(UserRepository.class).save(User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        bean(UserProgressService.class).initialize(user);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public User user() {
+        return user;
+    }
+
+    /**
+     * Makes the benchmark user the current principal on the calling thread, as the JWT filter
+     * would for a request.
+     */
+    public void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    /**
+     * Inserts {@code count} problems for the benchmark user through the bulk path.
+     */
+    public void seedProblems(int count) {
+        authenticate();
+        ProblemService problemService = bean(ProblemService.class);
+        for (int from = 0; from < count; from += 10_000) {
+            List<Problem> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + 10_000); i++) {
+                chunk.add(sampleProblem(i));
+            }
+            problemService.createProblemsBulk(chunk);
+        }
+    }
+
+    public static Problem sampleProblem(int i) {
+        return Problem.builder()
+                .problemName("Problem " + i)
+                .comment("Sliding window over the input, keeping counts in a map " + i)
+                .link("https://leetcode.com/problems/problem-" + i + "/")
+                .status(ProblemStatus.values()[i % ProblemStatus.values().length])
+                .level(ProblemLevel.values()[i % ProblemLevel.values().length])
+                .build();
+    }
+}
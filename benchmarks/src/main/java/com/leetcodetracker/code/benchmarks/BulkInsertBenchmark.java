@@ -0,0 +1,79 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.service.ProblemService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProblemService#createProblemsBulk} against the embedded database. The {@code rows}
+ * secondary result is the insert rate in rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BulkInsertBenchmark {
+
+    @Param({"1000", "10000"})
+    public int batch;
+
+    private ApplicationState app;
+    private ProblemService problemService;
+    private ProblemRepository problemRepository;
+    private List<Problem> problems;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        this.app = app;
+        problemService = app.bean(ProblemService.class);
+        problemRepository = app.bean(ProblemRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        // createProblemsBulk fills in ids and owners, so every call needs fresh instances
+        problems = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            problems.add(ApplicationState.sampleProblem(i));
+        }
+        app.authenticate();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearTable() {
+        problemRepository.deleteAllInBatch();
+    }
+
+    @Benchmark
+    public List<Problem> createProblemsBulk(RowCounter counter) {
+        List<Problem> saved = problemService.createProblemsBulk(problems);
+        counter.rows += saved.size();
+        return saved;
+    }
+}
@@ -0,0 +1,74 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.leetcodetracker.code.service.ExcelExportService;
+import com.leetcodetracker.code.service.PDFExportService;
+import com.leetcodetracker.code.service.ProblemService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Excel and PDF export of one user's problems, comparing the original in-memory builders
+ * ({@link InMemoryExports}) with the streaming writers the controllers use.
+ * Each iteration is one full export; {@link HeapPeak} adds the peak heap it needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ExportBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"inMemory", "streaming"})
+    public String path;
+
+    private ApplicationState app;
+    private ProblemService problemService;
+    private ExcelExportService excelExportService;
+    private PDFExportService pdfExportService;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        this.app = app;
+        app.seedProblems(rows);
+        problemService = app.bean(ProblemService.class);
+        excelExportService = app.bean(ExcelExportService.class);
+        pdfExportService = app.bean(PDFExportService.class);
+    }
+
+    @Benchmark
+    public Object excel(HeapPeak heap) throws Exception {
+        if (path.equals("inMemory")) {
+            app.authenticate();
+            return InMemoryExports.excel(problemService.getAllProblems());
+        }
+        excelExportService.writeExcel(app.user(), OutputStream.nullOutputStream());
+        return null;
+    }
+
+    @Benchmark
+    public Object pdf(HeapPeak heap) {
+        if (path.equals("inMemory")) {
+            app.authenticate();
+            return InMemoryExports.pdf(problemService.getAllProblems());
+        }
+        pdfExportService.writePdf(app.user(), OutputStream.nullOutputStream());
+        return null;
+    }
+}
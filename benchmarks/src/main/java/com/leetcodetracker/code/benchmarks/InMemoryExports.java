@@ -0,0 +1,98 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.property.UnitValue;
+import com.leetcodetracker.code.entity.Problem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The exports as the server built them before streaming: every problem loaded, the whole document
+ * built in memory and returned as one byte array. Kept here only as {@link ExportBenchmark}'s
+ * baseline, so nothing in the server can call them.
+ */
+final class InMemoryExports {
+
+    private static final String[] COLUMNS = {"ID", "Name", "Comment", "Link", "Status", "Level", "Posted Time", "Done Time"};
+    private static final float[] PDF_COLUMN_WIDTHS = {7f, 12f, 18f, 18f, 8f, 8f, 12f, 12f};
+
+    private InMemoryExports() {
+    }
+
+    static ByteArrayInputStream excel(List<Problem> problems) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Problems");
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < COLUMNS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(COLUMNS[i]);
+            }
+
+            int rowNum = 1;
+            for (Problem problem : problems) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(problem.getProblemId().toString());
+                row.createCell(1).setCellValue(problem.getProblemName());
+                row.createCell(2).setCellValue(problem.getComment());
+                row.createCell(3).setCellValue(problem.getLink());
+                row.createCell(4).setCellValue(problem.getStatus().toString());
+                row.createCell(5).setCellValue(problem.getLevel().toString());
+                row.createCell(6).setCellValue(problem.getTimePosted().toString());
+                row.createCell(7).setCellValue(problem.getDoneTime() != null ? problem.getDoneTime().toString() : "");
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+    }
+
+    static ByteArrayInputStream pdf(List<Problem> problems) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(out));
+        pdfDocument.setDefaultPageSize(PageSize.A4.rotate());
+        Document document = new Document(pdfDocument);
+
+        document.add(new Paragraph("Problem List").setBold().setFontSize(16));
+
+        Table table = new Table(PDF_COLUMN_WIDTHS);
+        table.setWidth(UnitValue.createPercentValue(100));
+        table.setAutoLayout();
+
+        for (String header : COLUMNS) {
+            table.addHeaderCell(new com.itextpdf.layout.element.Cell().add(new Paragraph(header).setBold().setFontSize(10)));
+        }
+        for (Problem problem : problems) {
+            pdfCell(table, problem.getProblemId().toString());
+            pdfCell(table, problem.getProblemName());
+            pdfCell(table, problem.getComment());
+            pdfCell(table, problem.getLink());
+            pdfCell(table, problem.getStatus().toString());
+            pdfCell(table, problem.getLevel().toString());
+            pdfCell(table, problem.getTimePosted().toString());
+            pdfCell(table, problem.getDoneTime() != null ? problem.getDoneTime().toString() : "");
+        }
+
+        document.add(table);
+        document.close();
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static void pdfCell(Table table, String text) {
+        table.addCell(new com.itextpdf.layout.element.Cell().add(new Paragraph(text).setFontSize(9)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetcodetracker.code.dto.ImportResult;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.service.ProblemService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The streaming JSON import end to end, from file bytes to committed rows. The {@code rows}
+ * secondary result is the ingest rate in rows per second; the file is generated once per trial so
+ * only parsing and inserting are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class JsonImportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int records;
+
+    private ApplicationState app;
+    private ProblemService problemService;
+    private ProblemRepository problemRepository;
+    private Path file;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) throws Exception {
+        this.app = app;
+        problemService = app.bean(ProblemService.class);
+        problemRepository = app.bean(ProblemRepository.class);
+
+        file = Files.createTempFile("import-benchmark-", ".json");
+        ObjectMapper objectMapper = app.bean(ObjectMapper.class);
+        try (OutputStream out = Files.newOutputStream(file);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (int i = 0; i < records; i++) {
+                Problem problem = ApplicationState.sampleProblem(i);
+                generator.writeStartObject();
+                generator.writeStringField("problemName", problem.getProblemName());
+                generator.writeStringField("comment", problem.getComment());
+                generator.writeStringField("link", problem.getLink());
+                generator.writeStringField("status", problem.getStatus().name());
+                generator.writeStringField("level", problem.getLevel().name());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearTable() {
+        problemRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ImportResult importProblemsFromJson(RowCounter counter) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            ImportResult result = problemService.importProblemsFromJson(in, app.user(), progress -> {
+            });
+            counter.rows += result.imported();
+            return result;
+        }
+    }
+}
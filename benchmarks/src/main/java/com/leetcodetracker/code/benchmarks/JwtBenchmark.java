@@ -0,0 +1,69 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and check on the login and per-request paths. {@code verifiedCacheSize=0} measures
+ * a full HMAC verification every call; the default size measures the cached steady state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"0", "10000"})
+    public int verifiedCacheSize;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-jwt-secret-key-that-is-long-enough-for-hs256", 86_400_000L, verifiedCacheSize,
+                new SimpleMeterRegistry());
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("bench")
+                .email("bench@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, user);
+    }
+}
@@ -0,0 +1,71 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetcodetracker.code.entity.Problem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of problem lists as the controllers write them and as uploads read them, using the
+ * same mapper defaults Spring MVC applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProblemJsonBenchmark {
+
+    private static final TypeReference<List<Problem>> PROBLEM_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Problem> problems;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        problems = new ArrayList<>(size);
+        Date now = new Date();
+        for (int i = 0; i < size; i++) {
+            Problem problem = ApplicationState.sampleProblem(i);
+            problem.setProblemId(UUID.randomUUID());
+            problem.setTimePosted(now);
+            problem.setUpdatedAt(now);
+            problems.add(problem);
+        }
+        json = objectMapper.writeValueAsBytes(problems);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(problems);
+    }
+
+    @Benchmark
+    public List<Problem> deserialize() throws Exception {
+        return objectMapper.readValue(json, PROBLEM_LIST);
+    }
+}
@@ -0,0 +1,84 @@
+package com.leetcodetracker.code.benchmarks;
+
+import com.leetcodetracker.code.util.ProblemTextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProblemTextIndex} lookups over one user's problems: an exact word, a short prefix, a
+ * misspelled word and a two-word query. Names and comments are drawn from a fixed vocabulary so
+ * common words have long posting lists, as in real problem lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {
+            "two", "sum", "array", "string", "tree", "binary", "search", "linked", "list", "reverse",
+            "merge", "intervals", "interval", "matrix", "path", "minimum", "maximum", "subarray", "substring",
+            "palindrome", "window", "sliding", "graph", "course", "schedule", "island", "number", "valid",
+            "parentheses", "stack", "queue", "heap", "kth", "largest", "element", "rotate", "image",
+            "permutation", "combination", "dynamic", "programming", "greedy", "backtracking", "trapping",
+            "rain", "water", "container", "longest", "common", "prefix", "subsequence", "median", "sorted"
+    };
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ProblemTextIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new ProblemTextIndex();
+        for (int i = 0; i < rows; i++) {
+            index.put(UUID.randomUUID(), words(random, 2 + random.nextInt(3)) + " " + i, words(random, 6));
+        }
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public List<UUID> exactWord() {
+        return index.search("palindrome", 20);
+    }
+
+    @Benchmark
+    public List<UUID> prefix() {
+        return index.search("perm", 20);
+    }
+
+    @Benchmark
+    public List<UUID> typo() {
+        return index.search("parenthesis", 20);
+    }
+
+    @Benchmark
+    public List<UUID> twoWords() {
+        return index.search("sliding windw", 20);
+    }
+}
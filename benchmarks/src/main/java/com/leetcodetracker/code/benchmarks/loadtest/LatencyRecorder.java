@@ -0,0 +1,61 @@
+package com.leetcodetracker.code.benchmarks.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw latencies for one operation. Load-test runs are short enough that keeping every
+ * sample and sorting once is cheaper and more exact than a histogram.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized void reset() {
+        count = 0;
+        errors = 0;
+    }
+
+    synchronized LoadTestReport.EndpointStats summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new LoadTestReport.EndpointStats(
+                count,
+                errors,
+                count / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.90),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    synchronized void addTo(LatencyRecorder total) {
+        for (int i = 0; i < count; i++) {
+            total.record(samples[i]);
+        }
+        for (long i = 0; i < errors; i++) {
+            total.recordError();
+        }
+    }
+
+    // Nearest-rank percentile
+    private static double percentileMillis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,307 @@
+package com.leetcodetracker.code.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.leetcodetracker.code.ServerApplication;
+import com.leetcodetracker.code.benchmarks.ApplicationState;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.service.ProblemService;
+import com.leetcodetracker.code.service.UserProgressService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test: boots {@link ServerApplication} on the embedded {@code bench} database with
+ * the {@code loadtest} profile, seeds users and problems, then runs a weighted mix of API calls
+ * from {@code loadtest.concurrency} closed-loop clients over real HTTP. Per-operation latency
+ * percentiles and throughput are printed and written to {@code loadtest.report} as JSON.
+ */
+public class LoadTest {
+
+    private static final String PASSWORD = "loadtest-password";
+
+    /**
+     * The operations in the mix; names are the keys of {@code loadtest.mix.*}.
+     */
+    enum Operation {
+        LOGIN("login"),
+        LIST("list"),
+        PAGE("page"),
+        CREATE("create"),
+        UPDATE("update"),
+        EXPORT_EXCEL("export-excel"),
+        EXPORT_PDF("export-pdf"),
+        ADMIN_USERS("admin-users"),
+        ADMIN_STATS("admin-stats");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+
+    private record SeededUser(String username, List<UUID> problemIds) {
+    }
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final boolean virtualThreads;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUrl;
+    private final List<SeededUser> users = new ArrayList<>();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private String adminToken;
+    private final Map<Operation, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final Operation[] weightedOperations;
+
+    LoadTest(LoadTestSettings settings, ObjectMapper objectMapper, int port, boolean virtualThreads) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.virtualThreads = virtualThreads;
+        this.baseUrl = "http://localhost:" + port;
+        List<Operation> weighted = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+            int weight = settings.mix().getOrDefault(operation.key, 0);
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix gives every operation a weight of zero");
+        }
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class)
+                .profiles("bench", "loadtest")
+                .run(args);
+        try {
+            LoadTestSettings settings = Binder.get(context.getEnvironment())
+                    .bind("loadtest", LoadTestSettings.class)
+                    .orElseThrow(() -> new IllegalStateException("loadtest.* settings missing"));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            boolean virtualThreads = context.getEnvironment()
+                    .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            LoadTest loadTest = new LoadTest(settings, context.getBean(ObjectMapper.class), port, virtualThreads);
+            loadTest.seed(context);
+            LoadTestReport report = loadTest.run();
+            loadTest.write(report);
+        } finally {
+            context.close();
+        }
+    }
+
+    void seed(ConfigurableApplicationContext context) throws IOException, InterruptedException {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProblemService problemService = context.getBean(ProblemService.class);
+        UserProgressService userProgressService = context.getBean(UserProgressService.class);
+        // Hashing once keeps seeding fast; logins still pay the full check
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        System.out.printf("Seeding %d users x %d problems%n", settings.users(), settings.problemsPerUser());
+        for (int u = 0; u < settings.users(); u++) {
+            User user = userRepository.save(User.builder()
+                    .username("load-user-" + u)
+                    .email("load-user-" + u + "@example.com")
+                    .password(passwordHash)
+                    .role(UserRole.USER)
+                    .build());
+            userProgressService.initialize(user);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+            List<Problem> problems = new ArrayList<>();
+            for (int i = 0; i < settings.problemsPerUser(); i++) {
+                problems.add(ApplicationState.sampleProblem(i));
+            }
+            List<UUID> ids = problemService.createProblemsBulk(problems).stream().map(Problem::getProblemId).toList();
+            users.add(new SeededUser(user.getUsername(), ids));
+        }
+        SecurityContextHolder.clearContext();
+        userRepository.save(User.builder()
+                .username("load-admin")
+                .email("load-admin@example.com")
+                .password(passwordHash)
+                .role(UserRole.ADMIN)
+                .build());
+
+        for (SeededUser user : users) {
+            tokens.put(user.username(), login(user.username()));
+        }
+        adminToken = login("load-admin");
+    }
+
+    LoadTestReport run() throws Exception {
+        Instant startedAt = Instant.now();
+        System.out.printf("Warming up for %s with %d clients (%s threads)%n", settings.warmup(),
+                settings.concurrency(), virtualThreads ? "virtual" : "platform");
+        drive(settings.warmup());
+        recorders.values().forEach(LatencyRecorder::reset);
+
+        System.out.printf("Measuring for %s%n", settings.duration());
+        long start = System.nanoTime();
+        drive(settings.duration());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, LoadTestReport.EndpointStats> endpoints = new LinkedHashMap<>();
+        LatencyRecorder overall = new LatencyRecorder();
+        recorders.forEach((operation, recorder) -> {
+            endpoints.put(operation.key, recorder.summarize(seconds));
+            recorder.addTo(overall);
+        });
+        return new LoadTestReport(startedAt, System.getProperty("java.version"), virtualThreads, settings, seconds,
+                overall.summarize(seconds), endpoints);
+    }
+
+    private void drive(Duration duration) throws Exception {
+        if (duration.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < settings.concurrency(); i++) {
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+                        execute(operation);
+                    }
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void execute(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeededUser user = users.get(random.nextInt(users.size()));
+        LatencyRecorder recorder = recorders.get(operation);
+        long start = System.nanoTime();
+        try {
+            int status = switch (operation) {
+                case LOGIN -> {
+                    tokens.put(user.username(), login(user.username()));
+                    yield 200;
+                }
+                case LIST -> get("/api/v1/problems", tokens.get(user.username()));
+                case PAGE -> get("/api/v1/problems/page?limit=50", tokens.get(user.username()));
+                case CREATE -> send("POST", "/api/v1/problems", tokens.get(user.username()),
+                        problemJson("Load " + random.nextInt(1_000_000), ProblemStatus.TODO));
+                case UPDATE -> send("PUT", "/api/v1/problems/" + user.problemIds().get(random.nextInt(user.problemIds().size())),
+                        tokens.get(user.username()),
+                        problemJson("Updated " + random.nextInt(1_000_000),
+                                ProblemStatus.values()[random.nextInt(ProblemStatus.values().length)]));
+                case EXPORT_EXCEL -> get("/api/v1/problems/export/excel", tokens.get(user.username()));
+                case EXPORT_PDF -> get("/api/v1/problems/export/pdf", tokens.get(user.username()));
+                case ADMIN_USERS -> get("/api/v1/admin/dashboard/users", adminToken);
+                case ADMIN_STATS -> get("/api/v1/admin/dashboard/stats", adminToken);
+            };
+            if (status < 400) {
+                recorder.record(System.nanoTime() - start);
+            } else {
+                recorder.recordError();
+            }
+        } catch (Exception e) {
+            recorder.recordError();
+        }
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request("/api/v1/auth/login", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                                Map.of("username", username, "password", PASSWORD))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.statusCode());
+        }
+        return (String) objectMapper.readValue(response.body(), Map.class).get("token");
+    }
+
+    private int get(String path, String token) throws IOException, InterruptedException {
+        return httpClient.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int send(String method, String path, String token, String json) throws IOException, InterruptedException {
+        HttpRequest request = request(path, token)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofMinutes(2));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String problemJson(String name, ProblemStatus status) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("problemName", name);
+        body.put("comment", "load test");
+        body.put("link", "https://leetcode.com/problems/load/");
+        body.put("status", status.name());
+        body.put("level", "MEDIUM");
+        return objectMapper.writeValueAsString(body);
+    }
+
+    void write(LoadTestReport report) throws IOException {
+        System.out.printf("%n%-14s %9s %7s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        report.endpoints().forEach((name, stats) -> printRow(name, stats));
+        printRow("overall", report.overall());
+
+        if (report.settings().report().getParent() != null) {
+            Files.createDirectories(report.settings().report().getParent());
+        }
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValue(report.settings().report().toFile(), report);
+        System.out.printf("%nReport written to %s%n", report.settings().report().toAbsolutePath());
+    }
+
+    private static void printRow(String name, LoadTestReport.EndpointStats stats) {
+        System.out.printf("%-14s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, stats.count(), stats.errors(),
+                stats.throughput(), stats.p50(), stats.p90(), stats.p99(), stats.max());
+    }
+}
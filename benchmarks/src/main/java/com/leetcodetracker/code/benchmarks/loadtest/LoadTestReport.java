@@ -0,0 +1,19 @@
+package com.leetcodetracker.code.benchmarks.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Machine-readable result of one load-test run, written as JSON so runs from different builds
+ * can be diffed. Latencies are in milliseconds, throughput in successful calls per second.
+ *
+ * @param virtualThreads whether the server ran with {@code spring.threads.virtual.enabled}
+ */
+public record LoadTestReport(Instant startedAt, String javaVersion, boolean virtualThreads, LoadTestSettings settings,
+                             double measuredSeconds, EndpointStats overall,
+                             Map<String, EndpointStats> endpoints) {
+
+    public record EndpointStats(long count, long errors, double throughput,
+                                double p50, double p90, double p99, double max) {
+    }
+}
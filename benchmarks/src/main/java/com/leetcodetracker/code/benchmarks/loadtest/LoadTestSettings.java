@@ -0,0 +1,15 @@
+package com.leetcodetracker.code.benchmarks.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Bound from the {@code loadtest.*} properties; defaults live in {@code application-loadtest.properties}
+ * and any of them can be overridden on the command line, e.g. {@code --loadtest.concurrency=64}.
+ *
+ * @param mix relative weight of each operation, keyed by the names in {@link LoadTest.Operation}
+ */
+public record LoadTestSettings(int users, int problemsPerUser, int concurrency, Duration warmup,
+                               Duration duration, Map<String, Integer> mix, Path report) {
+}
@@ -0,0 +1,39 @@
+package com.leetcodetracker.code.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * New hashes use {@code security.password.encoder} ({@code bcrypt}, {@code argon2} or
+     * {@code pbkdf2}) and are stored with an {@code {id}} prefix, so any of them can still be
+     * checked after the setting changes. Hashes that predate the prefix are plain BCrypt.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.encoder:bcrypt}") String encoderId,
+                                           @Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalArgumentException("Unknown security.password.encoder: " + encoderId);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
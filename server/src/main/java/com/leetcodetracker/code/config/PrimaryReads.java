@@ -0,0 +1,33 @@
+package com.leetcodetracker.code.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps read-only work on the write database. The ETag of a listing comes from version stamps
+ * that are bumped after the primary commits, so the rows sent under it must be read there too: a
+ * replica that has not replayed the commit yet would pair a fresh ETag with stale rows, and the
+ * client would keep them until the next write. Without a read database this changes nothing.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> work) {
+        if (isPinned()) {
+            return work.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.leetcodetracker.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a second database when {@code datasource.read.url} is set.
+ * The application DataSource becomes a lazy proxy: it takes a physical connection only at the
+ * first statement, by which point the transaction manager has marked the connection read-only,
+ * so {@code @Transactional(readOnly = true)} work lands on the read pool and everything else on
+ * the write pool configured by {@code spring.datasource.*}.
+ * <p>
+ * Work inside {@link PrimaryReads#call} stays on the write pool even when read-only; the
+ * ETag-validated listings use it, so a lagging replica cannot pair stale rows with a fresh ETag.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.read.url")
+public class ReadDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("write");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.read.hikari")
+    public HikariDataSource readDataSource(@Value("${datasource.read.url}") String url,
+                                           @Value("${datasource.read.username:${spring.datasource.username:}}") String username,
+                                           @Value("${datasource.read.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("read");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        AbstractRoutingDataSource readOnlyDataSource = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return PrimaryReads.isPinned() ? "write" : "read";
+            }
+        };
+        readOnlyDataSource.setTargetDataSources(Map.of("write", writeDataSource, "read", readDataSource));
+        readOnlyDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+}
@@ -1,18 +1,26 @@
 package com.leetcodetracker.code.controller;
 
-import com.leetcodetracker.code.entity.ProblemStatus;
-import com.leetcodetracker.code.entity.User;
-import com.leetcodetracker.code.repository.ProblemRepository;
-import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse;
+import com.leetcodetracker.code.dto.SystemStatsResponse;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+import com.leetcodetracker.code.service.AdminDashboardService;
+import com.leetcodetracker.code.service.DashboardStreamService;
+import com.leetcodetracker.code.service.PDFExportService;
+import com.leetcodetracker.code.service.ProblemVersionStamps;
+import com.leetcodetracker.code.service.SolveAnalyticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/admin/dashboard")
@@ -21,85 +29,56 @@ import java.util.stream.Collectors;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
-    private final UserRepository userRepository;
-    private final ProblemRepository problemRepository;
+    private final AdminDashboardService adminDashboardService;
+    private final PDFExportService pdfExportService;
+    private final ProblemVersionStamps versionStamps;
+    private final DashboardStreamService dashboardStreamService;
+    private final SolveAnalyticsService solveAnalyticsService;
 
     @GetMapping("/users")
-    public ResponseEntity<List<Map<String, Object>>> getAllUsers() {
-        // Get only regular users, exclude admins
-        List<User> users = userRepository.findByRole(com.leetcodetracker.code.entity.UserRole.USER);
-        
-        List<Map<String, Object>> userStats = users.stream().map(user -> {
-            Map<String, Object> userData = new HashMap<>();
-            userData.put("userId", user.getUserId());
-            userData.put("username", user.getUsername());
-            userData.put("email", user.getEmail());
-            userData.put("role", user.getRole());
-            
-            // Calculate problem statistics
-            long totalProblems = problemRepository.countByUser(user);
-            long todoCount = problemRepository.countByUserAndStatus(user, ProblemStatus.TODO);
-            long doingCount = problemRepository.countByUserAndStatus(user, ProblemStatus.DOING);
-            long doneCount = problemRepository.countByUserAndStatus(user, ProblemStatus.DONE);
-            
-            Map<String, Object> progress = new HashMap<>();
-            progress.put("total", totalProblems);
-            progress.put("todo", todoCount);
-            progress.put("doing", doingCount);
-            progress.put("done", doneCount);
-            
-            userData.put("progress", progress);
-            
-            return userData;
-        }).collect(Collectors.toList());
-        
-        return ResponseEntity.ok(userStats);
+    public ResponseEntity<List<UserProgressResponse>> getAllUsers(WebRequest request) {
+        String eTag = versionStamps.globalETag();
+        if (request.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        return ConditionalGet.ok(eTag, adminDashboardService::getUsersWithProgress);
     }
 
     @GetMapping("/users/{userId}/problems")
-    public ResponseEntity<List<Map<String, Object>>> getUserProblems(@PathVariable String userId) {
-        // Search only from users with role USER, otherwise return RuntimeException("User not found")
-        User user = userRepository.findById(java.util.UUID.fromString(userId))
-                .filter(u -> u.getRole() == com.leetcodetracker.code.entity.UserRole.USER)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Map<String, Object>> problems = problemRepository.findByUser(user).stream()
-                .map(problem -> {
-                    Map<String, Object> problemData = new HashMap<>();
-                    problemData.put("problemId", problem.getProblemId());
-                    problemData.put("problemName", problem.getProblemName());
-                    problemData.put("comment", problem.getComment());
-                    problemData.put("link", problem.getLink());
-                    problemData.put("status", problem.getStatus());
-                    problemData.put("level", problem.getLevel());
-                    problemData.put("timePosted", problem.getTimePosted());
-                    problemData.put("doneTime", problem.getDoneTime());
-                    return problemData;
-                })
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(problems);
+    public ResponseEntity<List<ProblemResponse>> getUserProblems(@PathVariable String userId, WebRequest request) {
+        UUID id = UUID.fromString(userId);
+        String eTag = versionStamps.userETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        return ConditionalGet.ok(eTag, () -> adminDashboardService.getUserProblems(id));
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getSystemStats() {
-        // Make sure counted users have role USER and no ADMIN among them
-        long totalUsers = userRepository.findByRole(com.leetcodetracker.code.entity.UserRole.USER).size();
-        long totalProblems = problemRepository.count();
-        long totalTodo = problemRepository.countByStatus(ProblemStatus.TODO);
-        long totalDoing = problemRepository.countByStatus(ProblemStatus.DOING);
-        long totalDone = problemRepository.countByStatus(ProblemStatus.DONE);
-        
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", totalUsers);
-        stats.put("totalProblems", totalProblems);
-        
-        Map<String, Object> problemStats = new HashMap<>();
-        problemStats.put("todo", totalTodo);
-        problemStats.put("doing", totalDoing);
-        problemStats.put("done", totalDone);
-        stats.put("problemStats", problemStats);
-        
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<SystemStatsResponse> getSystemStats(WebRequest request) {
+        String eTag = versionStamps.globalETag();
+        if (request.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        return ConditionalGet.ok(eTag, adminDashboardService::getSystemStats);
+    }
+
+    @GetMapping("/analytics")
+    public ResponseEntity<SolveAnalyticsResponse> getAnalytics(@RequestParam(defaultValue = "90") int days) {
+        return ResponseEntity.ok(solveAnalyticsService.systemWide(days));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
+    @GetMapping("/export/pdf")
+    public ResponseEntity<StreamingResponseBody> exportAllToPDF() {
+        StreamingResponseBody body = pdfExportService::writeAllPdf;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=all-problems.pdf")
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(body);
     }
 }
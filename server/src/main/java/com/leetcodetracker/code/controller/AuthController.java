@@ -3,10 +3,15 @@ package com.leetcodetracker.code.controller;
 import com.leetcodetracker.code.entity.UserRole;
 import com.leetcodetracker.code.service.AuthenticationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -17,7 +22,7 @@ public class AuthController {
     private final AuthenticationService authenticationService;
 
     @PostMapping("/signup")
-    public ResponseEntity<Map<String, Object>> signup(@RequestBody SignupRequest request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> signup(@RequestBody SignupRequest request) {
         try {
             // Determine role from request, default to USER if not specified or invalid
             UserRole role = UserRole.USER; // Default role
@@ -30,29 +35,42 @@ public class AuthController {
                 }
             }
             
-            Map<String, Object> response = authenticationService.signup(
+            return authenticationService.signupAsync(
                     request.getUsername(),
                     request.getEmail(),
                     request.getPassword(),
                     role
-            );
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            ).handle(AuthController::toResponse);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> login(@RequestBody LoginRequest request) {
         try {
-            Map<String, Object> response = authenticationService.login(
+            return authenticationService.loginAsync(
                     request.getUsername(),
                     request.getPassword()
-            );
+            ).handle(AuthController::toResponse);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> toResponse(Map<String, Object> response, Throwable error) {
+        if (error == null) {
             return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(cause.getMessage())));
+    }
+
+    // Password hashing is at capacity: fail fast and let the client retry rather than queue behind it
+    private static ResponseEntity<Map<String, Object>> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Too many sign-in attempts in progress, please retry shortly"));
     }
 
     // Request DTOs
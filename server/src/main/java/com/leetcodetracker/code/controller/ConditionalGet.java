@@ -0,0 +1,27 @@
+package com.leetcodetracker.code.controller;
+
+import com.leetcodetracker.code.config.PrimaryReads;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Responses for ETag-validated polling endpoints. {@code no-cache} lets clients keep the body but
+ * forces them to revalidate, replacing Spring Security's default {@code no-store}. Bodies are read
+ * on the primary database, where the version stamps behind the ETag are bumped.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    static <T> ResponseEntity<T> ok(String eTag, Supplier<T> body) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(PrimaryReads.call(body));
+    }
+}
@@ -1,22 +1,50 @@
 package com.leetcodetracker.code.controller;
+import com.leetcodetracker.code.dto.BulkDelete;
+import com.leetcodetracker.code.dto.BulkResult;
+import com.leetcodetracker.code.dto.BulkStatusUpdate;
+import com.leetcodetracker.code.dto.ImportJobStatus;
+import com.leetcodetracker.code.dto.ImportResult;
+import com.leetcodetracker.code.dto.ProblemChanges;
+import com.leetcodetracker.code.dto.ProblemFilter;
+import com.leetcodetracker.code.dto.ProblemPage;
+import com.leetcodetracker.code.dto.ProblemPatch;
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.dto.ProblemSortField;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse;
 import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
 import com.leetcodetracker.code.service.ExcelExportService;
+import com.leetcodetracker.code.service.ImportJobService;
 import com.leetcodetracker.code.service.PDFExportService;
+import com.leetcodetracker.code.service.ProblemSearchService;
 import com.leetcodetracker.code.service.ProblemService;
+import com.leetcodetracker.code.service.ProblemVersionStamps;
+import com.leetcodetracker.code.service.SolveAnalyticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 
@@ -28,6 +56,10 @@ public class ProblemController {
     private final ProblemService service;
     private final ExcelExportService excelExportService;
     private final PDFExportService pdfExportService;
+    private final ImportJobService importJobService;
+    private final ProblemVersionStamps versionStamps;
+    private final ProblemSearchService searchService;
+    private final SolveAnalyticsService solveAnalyticsService;
     @PostMapping
     public Problem addNewProblem(@RequestBody Problem problem) {
         return service.createProblem(problem);
@@ -42,48 +74,156 @@ public class ProblemController {
 
     @PostMapping("/import-json")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Problem>> importProblemsFromJson(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<?> importProblemsFromJson(@RequestParam("file") MultipartFile file,
+                                                    @RequestParam(defaultValue = "false") boolean async) {
         try {
-            List<Problem> createdProblems = service.importProblemsFromJsonFile(file);
-            return ResponseEntity.ok(createdProblems);
+            if (async) {
+                ImportJobStatus job = importJobService.submit(file, service.getCurrentUser());
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/problems/import-jobs/" + job.jobId()))
+                        .body(job);
+            }
+            ImportResult result = service.importProblemsFromJsonFile(file);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Too many import jobs in progress, try again later"));
         } catch (IOException e) {
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @GetMapping("/import-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportJobStatus> getImportJob(@PathVariable UUID jobId) {
+        return importJobService.getJob(jobId, service.getCurrentUser())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/{problemId}")
     public ResponseEntity<Problem> updateProblem(@PathVariable UUID problemId, @RequestBody Problem problem) {
-        return ResponseEntity.ok(service.updateProblem(problemId, problem));
+        try {
+            return ResponseEntity.ok(service.updateProblem(problemId, problem));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PatchMapping("/{problemId}")
+    public ResponseEntity<ProblemResponse> patchProblem(@PathVariable UUID problemId, @RequestBody ProblemPatch patch) {
+        try {
+            return service.patchProblem(problemId, patch)
+                    .map(ProblemResponse::of)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // Someone else's edit committed first; the client re-reads and retries
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/bulk/status")
+    public ResponseEntity<BulkResult> updateStatusBulk(@RequestBody BulkStatusUpdate request) {
+        try {
+            return ResponseEntity.ok(service.updateStatusBulk(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkResult> deleteBulk(@RequestBody BulkDelete request) {
+        try {
+            return ResponseEntity.ok(service.deleteBulk(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
+
     @GetMapping("/{problemId}")
-    public ResponseEntity<Problem> getProblemById(@PathVariable UUID problemId) {
+    public ResponseEntity<ProblemResponse> getProblemById(@PathVariable UUID problemId) {
         Optional<Problem> problem = service.getProblemById(problemId);
-        return problem.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+        return problem.map(ProblemResponse::of).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
     @GetMapping
-    public List<Problem> getAllProblems() {
-        return service.getAllProblems();
+    public ResponseEntity<List<ProblemResponse>> getAllProblems(WebRequest request) {
+        // Answer unchanged polls from the version stamp before touching the repository
+        String eTag = versionStamps.userETag(service.getCurrentUser().getUserId());
+        if (request.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        return ConditionalGet.ok(eTag, service::listProblems);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ProblemResponse>> searchProblems(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(searchService.search(service.getCurrentUser().getUserId(), q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ProblemChanges> getChanges(@RequestParam(required = false) String since) {
+        try {
+            return ResponseEntity.ok(service.getChangesSince(since));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/analytics")
+    public ResponseEntity<SolveAnalyticsResponse> getAnalytics(@RequestParam(defaultValue = "90") int days) {
+        return ResponseEntity.ok(solveAnalyticsService.forUser(service.getCurrentUser().getUserId(), days));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ProblemPage> getProblemsPage(
+            @RequestParam(required = false) ProblemStatus status,
+            @RequestParam(required = false) ProblemLevel level,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date postedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date postedTo,
+            @RequestParam(defaultValue = "timePosted") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            ProblemFilter filter = new ProblemFilter(status, level, postedFrom, postedTo);
+            return ResponseEntity.ok(service.getProblemsPage(
+                    filter, ProblemSortField.fromParam(sort), Sort.Direction.fromString(direction), cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportToExcel() throws IOException {
-        ByteArrayInputStream in = excelExportService.exportToExcel();
-        byte[] data = in.readAllBytes();
+    public ResponseEntity<StreamingResponseBody> exportToExcel() {
+        // Resolve the user on the request thread; the body is written on an async thread
+        User currentUser = service.getCurrentUser();
+        StreamingResponseBody body = out -> excelExportService.writeExcel(currentUser, out);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=problems.xlsx")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(data);
+                .body(body);
     }
 
     @GetMapping("/export/pdf")
-    public ResponseEntity<byte[]> exportToPDF() {
-        ByteArrayInputStream in = pdfExportService.exportToPDF();
-        byte[] data = in.readAllBytes();
+    public ResponseEntity<StreamingResponseBody> exportToPDF() {
+        User currentUser = service.getCurrentUser();
+        StreamingResponseBody body = out -> pdfExportService.writePdf(currentUser, out);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=problems.pdf")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(data);
+                .body(body);
     }
 
 
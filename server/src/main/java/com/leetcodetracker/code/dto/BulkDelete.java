@@ -0,0 +1,13 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes the current user's problems, chosen either by {@code problemIds} or as every problem
+ * currently in {@code status}; exactly one of the two is given.
+ */
+public record BulkDelete(List<UUID> problemIds, ProblemStatus status) {
+}
@@ -0,0 +1,7 @@
+package com.leetcodetracker.code.dto;
+
+/**
+ * Outcome of a bulk write: how many problems it changed or removed.
+ */
+public record BulkResult(int affected) {
+}
@@ -0,0 +1,14 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves the current user's problems to {@code status}. They are chosen either by
+ * {@code problemIds} or as every problem currently in {@code fromStatus}; exactly one of the two
+ * is given.
+ */
+public record BulkStatusUpdate(List<UUID> problemIds, ProblemStatus fromStatus, ProblemStatus status) {
+}
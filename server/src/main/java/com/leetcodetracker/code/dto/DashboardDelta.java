@@ -0,0 +1,15 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Change to the admin dashboard over one coalescing window: net counter deltas per user, the net
+ * change of the problem totals and the rows of users who signed up. Like {@code /users} and the
+ * user count of {@code /stats}, {@code users} and {@code newUsers} cover only {@code USER} accounts,
+ * while {@code totals} covers every account as {@code /stats} does. Clients add it to the state they
+ * loaded from {@code /users} and {@code /stats}.
+ */
+public record DashboardDelta(Map<UUID, ProgressCounts> users, ProgressCounts totals, List<UserProgressResponse> newUsers) {
+}
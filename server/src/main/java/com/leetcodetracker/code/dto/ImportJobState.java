@@ -0,0 +1,5 @@
+package com.leetcodetracker.code.dto;
+
+public enum ImportJobState {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,20 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public record ImportJobStatus(
+        UUID jobId,
+        ImportJobState state,
+        long processed,
+        long imported,
+        long failed,
+        double rowsPerSecond,
+        List<String> errors,
+        String message,
+        Date submittedAt,
+        Date startedAt,
+        Date finishedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.List;
+
+/**
+ * Running totals of a JSON import. Reported after every committed chunk and once at the end;
+ * {@code errors} holds the first few rejected records with the reason they were skipped.
+ */
+public record ImportResult(long processed, long imported, long failed, List<String> errors) {
+}
@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Problems created or updated and ids deleted since the client's token. When {@code reset} is set
+ * the token was missing or too old and {@code changed} holds the full list, which replaces the
+ * client's copy. Pass {@code nextToken} as {@code since} on the next call.
+ */
+public record ProblemChanges(List<ProblemResponse> changed, List<UUID> deleted, String nextToken, boolean reset) {
+}
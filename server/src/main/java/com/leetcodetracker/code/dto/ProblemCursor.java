@@ -0,0 +1,38 @@
+package com.leetcodetracker.code.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page: the sort key value plus the problem id as tie breaker.
+ * Clients only ever see the opaque {@link #encode() encoded} form.
+ */
+public record ProblemCursor(ProblemSortField sortField, Sort.Direction direction, Date sortValue, UUID problemId) {
+
+    public String encode() {
+        String raw = sortField.name() + "|" + direction.name() + "|" + sortValue.getTime() + "|" + problemId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProblemCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ProblemCursor(
+                    ProblemSortField.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    new Date(Long.parseLong(parts[2])),
+                    UUID.fromString(parts[3])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
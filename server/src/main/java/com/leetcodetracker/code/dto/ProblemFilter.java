@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.Date;
+
+/**
+ * Optional filters for the problem listing; any {@code null} component is ignored.
+ */
+public record ProblemFilter(ProblemStatus status, ProblemLevel level, Date postedFrom, Date postedTo) {
+}
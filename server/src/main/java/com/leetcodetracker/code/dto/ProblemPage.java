@@ -0,0 +1,9 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.List;
+
+/**
+ * One page of the keyset-paginated listing; {@code nextCursor} is {@code null} on the last page.
+ */
+public record ProblemPage(List<ProblemResponse> items, String nextCursor) {
+}
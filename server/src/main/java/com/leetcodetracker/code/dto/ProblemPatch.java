@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+/**
+ * Partial edit of a problem: {@code null} fields are left as they are. {@code version} is the
+ * version the client last read and is required; the edit is refused if the problem has moved on.
+ */
+public record ProblemPatch(String problemName, String comment, String link, ProblemStatus status,
+                           ProblemLevel level, Long version) {
+}
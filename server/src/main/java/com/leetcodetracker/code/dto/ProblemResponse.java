@@ -0,0 +1,39 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Read model of a problem for list and detail responses. List queries select straight into it
+ * (see {@code ProblemRepository}), so no entity is loaded, tracked or dirty-checked per row.
+ * {@code version} is what a client sends back with a PATCH.
+ */
+public record ProblemResponse(UUID problemId, String problemName, String comment, String link,
+                              Date timePosted, Date doneTime, ProblemStatus status, ProblemLevel level,
+                              Date updatedAt, Long version) {
+
+    /** JPQL constructor expression over a {@code Problem p}; keep in step with the component order. */
+    public static final String SELECT = "select new com.leetcodetracker.code.dto.ProblemResponse("
+            + "p.problemId, p.problemName, p.comment, p.link, p.timePosted, p.doneTime, p.status, p.level, p.updatedAt, "
+            + "p.version) from Problem p ";
+
+    public static ProblemResponse of(Problem problem) {
+        return new ProblemResponse(problem.getProblemId(), problem.getProblemName(), problem.getComment(),
+                problem.getLink(), problem.getTimePosted(), problem.getDoneTime(), problem.getStatus(),
+                problem.getLevel(), problem.getUpdatedAt(), problem.getVersion());
+    }
+
+    /** Criteria counterpart of {@link #SELECT}, for queries built from specifications. */
+    public static CompoundSelection<ProblemResponse> select(Root<Problem> p, CriteriaBuilder cb) {
+        return cb.construct(ProblemResponse.class, p.get("problemId"), p.get("problemName"), p.get("comment"),
+                p.get("link"), p.get("timePosted"), p.get("doneTime"), p.get("status"), p.get("level"),
+                p.get("updatedAt"), p.get("version"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.leetcodetracker.code.dto;
+
+import java.util.Arrays;
+
+/**
+ * Columns the keyset-paginated problem listing can be ordered by.
+ */
+public enum ProblemSortField {
+    TIME_POSTED("timePosted"),
+    DONE_TIME("doneTime");
+
+    private final String property;
+
+    ProblemSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static ProblemSortField fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(param) || field.name().equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + param));
+    }
+}
@@ -0,0 +1,30 @@
+package com.leetcodetracker.code.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Point in time a client has synced up to. Clients only ever see the opaque
+ * {@link #encode() encoded} form and hand it back as {@code since}.
+ */
+public record ProblemSyncToken(Date since) {
+
+    public String encode() {
+        String raw = "v1|" + since.getTime();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProblemSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2 || !parts[0].equals("v1")) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new ProblemSyncToken(new Date(Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.Map;
+
+/**
+ * Problem counts by status. Also used as a signed delta when counters are adjusted.
+ */
+public record ProgressCounts(long total, long todo, long doing, long done) {
+
+    public static final ProgressCounts ZERO = new ProgressCounts(0, 0, 0, 0);
+
+    public static ProgressCounts of(Map<ProblemStatus, Long> countsByStatus) {
+        long total = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new ProgressCounts(
+                total,
+                countsByStatus.getOrDefault(ProblemStatus.TODO, 0L),
+                countsByStatus.getOrDefault(ProblemStatus.DOING, 0L),
+                countsByStatus.getOrDefault(ProblemStatus.DONE, 0L)
+        );
+    }
+
+    public static ProgressCounts forStatus(ProblemStatus status, long count) {
+        return new ProgressCounts(
+                count,
+                status == ProblemStatus.TODO ? count : 0,
+                status == ProblemStatus.DOING ? count : 0,
+                status == ProblemStatus.DONE ? count : 0
+        );
+    }
+
+    public ProgressCounts plus(ProgressCounts other) {
+        return new ProgressCounts(total + other.total, todo + other.todo, doing + other.doing, done + other.done);
+    }
+
+    public ProgressCounts negate() {
+        return new ProgressCounts(-total, -todo, -doing, -done);
+    }
+
+    public boolean isZero() {
+        return total == 0 && todo == 0 && doing == 0 && done == 0;
+    }
+}
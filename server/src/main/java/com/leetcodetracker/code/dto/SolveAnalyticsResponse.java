@@ -0,0 +1,27 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Solve analytics for one user or the whole system. {@code solvesPerDay} and {@code solvesPerWeek}
+ * cover the requested window with empty days and weeks included (weeks start on Monday); streaks
+ * count consecutive days with at least one solve over all history, and the current streak is still
+ * alive if the last solve was yesterday. {@code timeToDone} lists every bucket for every level.
+ */
+public record SolveAnalyticsResponse(List<DayCount> solvesPerDay, List<WeekCount> solvesPerWeek,
+                                     int currentStreak, int longestStreak,
+                                     Map<ProblemLevel, List<BucketCount>> timeToDone) {
+
+    public record DayCount(LocalDate date, long solved) {
+    }
+
+    public record WeekCount(LocalDate weekStart, long solved) {
+    }
+
+    public record BucketCount(String bucket, long solved) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.dto;
+
+public record SystemStatsResponse(long totalUsers, long totalProblems, StatusTotals problemStats) {
+
+    public record StatusTotals(long todo, long doing, long done) {
+    }
+
+    public static SystemStatsResponse of(long totalUsers, ProgressCounts totals) {
+        return new SystemStatsResponse(totalUsers, totals.total(),
+                new StatusTotals(totals.todo(), totals.doing(), totals.done()));
+    }
+}
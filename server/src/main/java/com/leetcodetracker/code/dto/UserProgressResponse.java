@@ -0,0 +1,13 @@
+package com.leetcodetracker.code.dto;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+
+import java.util.UUID;
+
+public record UserProgressResponse(UUID userId, String username, String email, UserRole role, ProgressCounts progress) {
+
+    public static UserProgressResponse of(User user, ProgressCounts progress) {
+        return new UserProgressResponse(user.getUserId(), user.getUsername(), user.getEmail(), user.getRole(), progress);
+    }
+}
@@ -1,11 +1,18 @@
 package com.leetcodetracker.code.entity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.Date;
 import java.util.UUID;
 
+// Table and indexes are created by the migrations in db/migration
 @Entity
+@DynamicUpdate // UPDATE only the changed columns (plus updatedAt and version), so a one-field PATCH stays small
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,7 +20,7 @@ import java.util.UUID;
 @Builder
 public class Problem {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator // generated in the JVM, so inserts need no id round trip and can be JDBC-batched
     private UUID problemId;
     private String problemName;
     private String comment;
@@ -24,7 +31,14 @@ public class Problem {
     private ProblemStatus status;
     @Enumerated(EnumType.STRING)
     private ProblemLevel level;
+    @UpdateTimestamp // set on insert and on every update; drives the changes-since feed
+    private Date updatedAt;
+    // Optimistic lock: updates carry "where version = ?" and fail instead of overwriting a newer edit
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
     
+    @JsonIgnore // lazy owner proxy; serializing it fails outside the session and would leak the owner's account
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,27 @@
+package com.leetcodetracker.code.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Marker left behind by a deleted problem so that clients syncing with a changes-since token learn
+ * about the deletion. Purged once older than any token the server still accepts.
+ */
+@Entity
+@Table(name = "problem_tombstone")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProblemTombstone {
+    @Id
+    private UUID problemId;
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+    @Column(name = "deleted_at", nullable = false)
+    private Date deletedAt;
+}
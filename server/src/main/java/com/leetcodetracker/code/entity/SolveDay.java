@@ -0,0 +1,35 @@
+package com.leetcodetracker.code.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Rollup of a user's finished problems by the day they were finished, kept in step by
+ * {@code SolveAnalyticsService} so solve charts and streaks never read the problem table.
+ */
+@Entity
+@Table(name = "solve_day")
+@IdClass(SolveDay.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolveDay {
+    @Id
+    private UUID userId;
+    @Id
+    private LocalDate solveDate;
+    private long solved;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private LocalDate solveDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.leetcodetracker.code.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Rollup of a user's finished problems by level and by how long they took from posting to DONE.
+ * {@code bucket} indexes {@code SolveAnalyticsService.BUCKET_LABELS}.
+ */
+@Entity
+@Table(name = "solve_time_bucket")
+@IdClass(SolveTimeBucket.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolveTimeBucket {
+    @Id
+    private UUID userId;
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ProblemLevel level;
+    @Id
+    private int bucket;
+    private long solved;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private ProblemLevel level;
+        private int bucket;
+    }
+}
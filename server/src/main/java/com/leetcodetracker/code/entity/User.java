@@ -1,7 +1,9 @@
 package com.leetcodetracker.code.entity;
 
 import jakarta.persistence.*;
+import com.leetcodetracker.code.security.UserPrincipalCacheInvalidator;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,6 +14,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +54,12 @@ public class User implements UserDetails {
     @Builder.Default
     private boolean credentialsNonExpired = true;
 
+    // Bumped whenever credentials or access change; tokens carrying an older value are rejected
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int credentialVersion = 0;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
@@ -0,0 +1,35 @@
+package com.leetcodetracker.code.entity;
+
+import com.leetcodetracker.code.dto.ProgressCounts;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-user problem counters, kept in step with the problem table by {@code ProblemService} writes
+ * so dashboards read one row per user instead of aggregating problems.
+ */
+@Entity
+@Table(name = "user_progress")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProgress {
+    @Id
+    private UUID userId;
+    private long total;
+    private long todo;
+    private long doing;
+    private long done;
+
+    public static UserProgress of(UUID userId, ProgressCounts counts) {
+        return new UserProgress(userId, counts.total(), counts.todo(), counts.doing(), counts.done());
+    }
+
+    public ProgressCounts toCounts() {
+        return new ProgressCounts(total, todo, doing, done);
+    }
+}
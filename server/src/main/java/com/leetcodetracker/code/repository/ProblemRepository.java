@@ -1,21 +1,116 @@
 package com.leetcodetracker.code.repository;
 
+import com.leetcodetracker.code.dto.ProblemResponse;
 import com.leetcodetracker.code.entity.Problem;
 import com.leetcodetracker.code.entity.User;
 import com.leetcodetracker.code.entity.ProblemStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProblemRepository extends JpaRepository<Problem, UUID> {
+public interface ProblemRepository extends JpaRepository<Problem, UUID>, JpaSpecificationExecutor<Problem> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Problem> findByUser(User user);
     Optional<Problem> findByProblemIdAndUser(UUID problemId, User user);
     List<Problem> findByUserAndStatus(User user, ProblemStatus status);
+
+    @Query(ProblemResponse.SELECT + "where p.user = :user")
+    List<ProblemResponse> findResponsesByUser(@Param("user") User user);
+
+    @Query(ProblemResponse.SELECT + "where p.user.userId = :userId")
+    List<ProblemResponse> findResponsesByUserId(@Param("userId") UUID userId);
+
+    @Query(ProblemResponse.SELECT + "where p.user = :user and p.updatedAt >= :since")
+    List<ProblemResponse> findResponsesUpdatedSince(@Param("user") User user, @Param("since") Date since);
+
+    @Query(ProblemResponse.SELECT + "where p.user.userId = :userId and p.problemId in :ids")
+    List<ProblemResponse> findResponsesByUserIdAndIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.problemId as problemId, p.problemName as problemName, p.comment as comment " +
+           "from Problem p where p.user.userId = :userId")
+    List<ProblemSearchEntry> findSearchEntries(@Param("userId") UUID userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Problem p where p.user = :user")
+    Stream<Problem> streamByUser(@Param("user") User user);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Problem p")
+    Stream<Problem> streamAll();
+
     long countByUser(User user);
     long countByUserAndStatus(User user, ProblemStatus status);
     long countByStatus(ProblemStatus status);
+
+    @Query("select p.user.userId as userId, p.status as status, count(p) as problemCount " +
+           "from Problem p group by p.user.userId, p.status")
+    List<UserStatusCount> countByUserAndStatus();
+
+    @Query("select p.user.userId as userId, p.status as status, count(p) as problemCount " +
+           "from Problem p where p.user.userId = :userId group by p.user.userId, p.status")
+    List<UserStatusCount> countStatusesForUser(@Param("userId") UUID userId);
+
+    // Both state reads lock the rows they return, so deltas computed from them match what the
+    // following UPDATE or DELETE changes even with concurrent writers
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.problemId as problemId, p.user.userId as userId, p.status as status, p.level as level, " +
+           "p.timePosted as timePosted, p.doneTime as doneTime " +
+           "from Problem p where p.user.userId = :userId and p.problemId in :ids")
+    List<ProblemState> findStatesForIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.problemId as problemId, p.user.userId as userId, p.status as status, p.level as level, " +
+           "p.timePosted as timePosted, p.doneTime as doneTime " +
+           "from Problem p where p.user.userId = :userId and p.status = :status")
+    List<ProblemState> findStatesForStatus(@Param("userId") UUID userId, @Param("status") ProblemStatus status);
+
+    // Source for rebuilding a user's solve rollups
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.problemId as problemId, p.user.userId as userId, p.status as status, p.level as level, " +
+           "p.timePosted as timePosted, p.doneTime as doneTime from Problem p where p.user.userId = :userId " +
+           "and p.status = com.leetcodetracker.code.entity.ProblemStatus.DONE and p.doneTime is not null")
+    List<ProblemState> findSolvedStates(@Param("userId") UUID userId);
+
+    // Bulk statements skip @UpdateTimestamp and @Version, so updatedAt and version are set here
+    @Modifying(clearAutomatically = true)
+    @Query("update Problem p set p.status = :status, p.updatedAt = :now, p.version = p.version + 1, " +
+           "p.doneTime = case when :status = com.leetcodetracker.code.entity.ProblemStatus.DONE then :now else p.doneTime end " +
+           "where p.user.userId = :userId and p.problemId in :ids and p.status <> :status")
+    int updateStatusForIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids,
+                           @Param("status") ProblemStatus status, @Param("now") Date now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Problem p set p.status = :status, p.updatedAt = :now, p.version = p.version + 1, " +
+           "p.doneTime = case when :status = com.leetcodetracker.code.entity.ProblemStatus.DONE then :now else p.doneTime end " +
+           "where p.user.userId = :userId and p.status = :fromStatus")
+    int updateStatusForStatus(@Param("userId") UUID userId, @Param("fromStatus") ProblemStatus fromStatus,
+                              @Param("status") ProblemStatus status, @Param("now") Date now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Problem p where p.user.userId = :userId and p.problemId in :ids")
+    int deleteForIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
 }
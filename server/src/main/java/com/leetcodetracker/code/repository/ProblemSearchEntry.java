@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.repository;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of one problem, loaded to (re)build a user's search index.
+ */
+public interface ProblemSearchEntry {
+    UUID getProblemId();
+    String getProblemName();
+    String getComment();
+}
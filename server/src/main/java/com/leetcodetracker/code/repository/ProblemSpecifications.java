@@ -0,0 +1,67 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.dto.ProblemCursor;
+import com.leetcodetracker.code.dto.ProblemFilter;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.User;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public final class ProblemSpecifications {
+
+    private ProblemSpecifications() {
+    }
+
+    public static Specification<Problem> ownedBy(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Problem> matching(ProblemFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.level() != null) {
+                predicates.add(cb.equal(root.get("level"), filter.level()));
+            }
+            if (filter.postedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("timePosted"), filter.postedFrom()));
+            }
+            if (filter.postedTo() != null) {
+                predicates.add(cb.lessThan(root.get("timePosted"), filter.postedTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Problem> hasValue(String property) {
+        return (root, query, cb) -> cb.isNotNull(root.get(property));
+    }
+
+    /**
+     * Rows strictly after the cursor in (sort value, problem id) order, so every page is a
+     * bounded index range scan no matter how deep the client has paged.
+     */
+    public static Specification<Problem> after(ProblemCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Date> sortPath = root.get(cursor.sortField().getProperty());
+            Path<UUID> idPath = root.get("problemId");
+            if (cursor.direction() == Sort.Direction.ASC) {
+                return cb.or(
+                        cb.greaterThan(sortPath, cursor.sortValue()),
+                        cb.and(cb.equal(sortPath, cursor.sortValue()), cb.greaterThan(idPath, cursor.problemId())));
+            }
+            return cb.or(
+                    cb.lessThan(sortPath, cursor.sortValue()),
+                    cb.and(cb.equal(sortPath, cursor.sortValue()), cb.lessThan(idPath, cursor.problemId())));
+        };
+    }
+}
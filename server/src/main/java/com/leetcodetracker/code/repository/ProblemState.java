@@ -0,0 +1,19 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * The columns of a problem that its progress counters and solve rollups depend on.
+ */
+public interface ProblemState {
+    UUID getProblemId();
+    UUID getUserId();
+    ProblemStatus getStatus();
+    ProblemLevel getLevel();
+    Date getTimePosted();
+    Date getDoneTime();
+}
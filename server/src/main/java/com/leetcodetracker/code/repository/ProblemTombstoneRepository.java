@@ -0,0 +1,30 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.ProblemTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProblemTombstoneRepository extends JpaRepository<ProblemTombstone, UUID> {
+
+    @Query("select t.problemId from ProblemTombstone t where t.userId = :userId and t.deletedAt >= :since")
+    List<UUID> findDeletedProblemIds(@Param("userId") UUID userId, @Param("since") Date since);
+
+    // Written before the matching bulk delete, from the same selection
+    @Modifying
+    @Query("insert into ProblemTombstone (problemId, userId, deletedAt) " +
+           "select p.problemId, p.user.userId, :now from Problem p where p.user.userId = :userId and p.problemId in :ids")
+    int insertForIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids, @Param("now") Date now);
+
+    @Modifying
+    @Query("delete from ProblemTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Date cutoff);
+}
@@ -0,0 +1,12 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+
+/**
+ * Problems of one level finished within one time-to-DONE bucket, for one user or summed over all users.
+ */
+public interface SolveBucketCount {
+    ProblemLevel getLevel();
+    int getBucket();
+    long getSolved();
+}
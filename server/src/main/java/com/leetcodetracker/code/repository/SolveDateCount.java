@@ -0,0 +1,11 @@
+package com.leetcodetracker.code.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Problems finished on one day, for one user or summed over all users.
+ */
+public interface SolveDateCount {
+    LocalDate getSolveDate();
+    long getSolved();
+}
@@ -0,0 +1,35 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.SolveDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SolveDayRepository extends JpaRepository<SolveDay, SolveDay.Key> {
+
+    @Modifying
+    @Query("update SolveDay d set d.solved = d.solved + :delta where d.userId = :userId and d.solveDate = :solveDate")
+    int increment(@Param("userId") UUID userId, @Param("solveDate") LocalDate solveDate, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "insert into solve_day (user_id, solve_date, solved) " +
+                   "values (:userId, :solveDate, :solved) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("solveDate") LocalDate solveDate, @Param("solved") long solved);
+
+    List<SolveDay> findAllByUserId(UUID userId);
+
+    @Query("select d.solveDate as solveDate, d.solved as solved from SolveDay d " +
+           "where d.userId = :userId and d.solved > 0 order by d.solveDate")
+    List<SolveDateCount> findByUser(@Param("userId") UUID userId);
+
+    @Query("select d.solveDate as solveDate, sum(d.solved) as solved from SolveDay d " +
+           "where d.solved > 0 group by d.solveDate order by d.solveDate")
+    List<SolveDateCount> sumByDate();
+}
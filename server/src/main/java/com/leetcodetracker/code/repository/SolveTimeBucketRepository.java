@@ -0,0 +1,38 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.SolveTimeBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SolveTimeBucketRepository extends JpaRepository<SolveTimeBucket, SolveTimeBucket.Key> {
+
+    @Modifying
+    @Query("update SolveTimeBucket b set b.solved = b.solved + :delta " +
+           "where b.userId = :userId and b.level = :level and b.bucket = :bucket")
+    int increment(@Param("userId") UUID userId, @Param("level") ProblemLevel level, @Param("bucket") int bucket,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "insert into solve_time_bucket (user_id, level, bucket, solved) " +
+                   "values (:userId, :level, :bucket, :solved) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("level") String level, @Param("bucket") int bucket,
+                       @Param("solved") long solved);
+
+    List<SolveTimeBucket> findAllByUserId(UUID userId);
+
+    @Query("select b.level as level, b.bucket as bucket, b.solved as solved from SolveTimeBucket b " +
+           "where b.userId = :userId")
+    List<SolveBucketCount> findByUser(@Param("userId") UUID userId);
+
+    @Query("select b.level as level, b.bucket as bucket, sum(b.solved) as solved from SolveTimeBucket b " +
+           "group by b.level, b.bucket")
+    List<SolveBucketCount> sumByBucket();
+}
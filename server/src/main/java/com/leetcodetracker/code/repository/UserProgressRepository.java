@@ -0,0 +1,48 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.entity.UserProgress;
+import com.leetcodetracker.code.entity.UserRole;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserProgressRepository extends JpaRepository<UserProgress, UUID> {
+
+    @Modifying
+    @Query("update UserProgress p set p.total = p.total + :total, p.todo = p.todo + :todo, " +
+           "p.doing = p.doing + :doing, p.done = p.done + :done where p.userId = :userId")
+    int increment(@Param("userId") UUID userId, @Param("total") long total, @Param("todo") long todo,
+                  @Param("doing") long doing, @Param("done") long done);
+
+    // Returns 0 when the row already exists, including one another transaction has just inserted
+    @Modifying
+    @Query(value = "insert into user_progress (user_id, total, todo, doing, done) " +
+                   "values (:userId, :total, :todo, :doing, :done) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("total") long total, @Param("todo") long todo,
+                       @Param("doing") long doing, @Param("done") long done);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from UserProgress p where p.userId = :userId")
+    Optional<UserProgress> lockById(@Param("userId") UUID userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select p from UserProgress p where p.userId in (select u.userId from User u where u.role = :role)")
+    List<UserProgress> findByUserRole(@Param("role") UserRole role);
+
+    @Query("select new com.leetcodetracker.code.dto.ProgressCounts(coalesce(sum(p.total), 0L), " +
+           "coalesce(sum(p.todo), 0L), coalesce(sum(p.doing), 0L), coalesce(sum(p.done), 0L)) from UserProgress p")
+    ProgressCounts sumAll();
+}
@@ -3,8 +3,16 @@ package com.leetcodetracker.code.repository;
 import com.leetcodetracker.code.entity.User;
 import com.leetcodetracker.code.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,5 +23,22 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<User> findByRole(UserRole role);
+    long countByRole(UserRole role);
+
+    @Query("select u.userId from User u")
+    List<UUID> findAllUserIds();
+
+    @Query("select u.userId from User u where u.userId in :userIds and u.role = :role")
+    List<UUID> findIdsByRole(@Param("userIds") Collection<UUID> userIds, @Param("role") UserRole role);
+
+    // Orders the solve rollup writers, which share the lock, against their reconciliation
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select u.userId from User u where u.userId = :userId")
+    Optional<UUID> lockSharedById(@Param("userId") UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.userId from User u where u.userId = :userId")
+    Optional<UUID> lockById(@Param("userId") UUID userId);
 }
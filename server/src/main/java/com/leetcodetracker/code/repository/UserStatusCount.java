@@ -0,0 +1,14 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.entity.ProblemStatus;
+
+import java.util.UUID;
+
+/**
+ * One row of the grouped (user x status) problem count aggregate.
+ */
+public interface UserStatusCount {
+    UUID getUserId();
+    ProblemStatus getStatus();
+    long getProblemCount();
+}
@@ -2,11 +2,13 @@ package com.leetcodetracker.code.security;
 
 import com.leetcodetracker.code.service.UserDetailsServiceImpl;
 import com.leetcodetracker.code.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +25,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -29,22 +36,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Signature and expiry are checked once here; the claims are reused below
+                claims = jwtUtil.verify(jwt);
             } catch (Exception e) {
                 logger.error("JWT token is invalid: " + e.getMessage());
             }
         }
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(claims);
             
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (userDetails != null && jwtUtil.isValidFor(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -54,4 +61,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        String userId = claims.get(JwtUtil.CLAIM_USER_ID, String.class);
+        Integer credentialVersion = claims.get(JwtUtil.CLAIM_CREDENTIAL_VERSION, Integer.class);
+        if (!statelessPrincipal || userId == null || credentialVersion == null) {
+            // Tokens issued before identity claims existed still resolve by username
+            return this.userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        return userPrincipalCache.findPrincipal(UUID.fromString(userId), credentialVersion).orElse(null);
+    }
 }
@@ -0,0 +1,66 @@
+package com.leetcodetracker.code.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool for CPU-bound password hashing (login and signup). Request threads hand the work
+ * over and are released, so a login burst cannot occupy every servlet thread; once the pool's
+ * threads and queue are full, further attempts are rejected immediately instead of queueing up.
+ * The workers stay platform threads in virtual-thread mode: hashing never blocks, so it gains
+ * nothing from them and the pool size is what keeps it from starving request handling of CPU.
+ */
+@Component
+public class PasswordHashingPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+
+    public PasswordHashingPool(@Value("${security.password.hashing.threads:0}") int threads,
+                               @Value("${security.password.hashing.queue-capacity:32}") int queueCapacity,
+                               MeterRegistry meterRegistry) {
+        // Hashing is pure CPU, so by default one thread per core
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password.hashing", List.of()).bindTo(meterRegistry);
+        this.rejections = Counter.builder("password.hashing.rejected")
+                .description("Login and signup attempts turned away because the hashing pool was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws RejectedExecutionException if every hashing thread is busy and the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,54 @@
+package com.leetcodetracker.code.security;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of {@link User} principals keyed by user id, so authenticated requests
+ * carrying identity claims do not hit the users table on every call.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final ExpiringLruCache<UUID, User> principals;
+    private final long ttlMillis;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.principal-cache.ttl:PT1M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principals = new ExpiringLruCache<>(maxSize);
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Returns the principal for {@code userId} if it still exists, is enabled and its credential
+     * version matches the one the token was issued with.
+     */
+    public Optional<User> findPrincipal(UUID userId, int credentialVersion) {
+        User user = principals.get(userId);
+        if (user == null) {
+            user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
+                return Optional.empty();
+            }
+            principals.put(userId, user, System.currentTimeMillis() + ttlMillis);
+        }
+        if (!user.isEnabled() || user.getCredentialVersion() != credentialVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(user);
+    }
+
+    public void invalidate(UUID userId) {
+        principals.invalidate(userId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.leetcodetracker.code.security;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.service.AfterCommit;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * JPA entity listener that evicts a user's cached principal whenever the row is changed or
+ * deleted (for example when the account is disabled or its credential version is bumped).
+ * The callbacks fire at flush, before commit, so the entry is evicted again once the transaction
+ * commits in case a concurrent request reloaded the old row in between.
+ */
+@Component
+public class UserPrincipalCacheInvalidator {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    // Lazy because Hibernate instantiates listeners while the EntityManagerFactory the cache's
+    // repository depends on is still being built
+    public UserPrincipalCacheInvalidator(@Lazy UserPrincipalCache userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        UUID userId = user.getUserId();
+        userPrincipalCache.invalidate(userId);
+        AfterCommit.run(() -> userPrincipalCache.invalidate(userId));
+    }
+}
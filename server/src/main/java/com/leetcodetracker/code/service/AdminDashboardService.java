@@ -0,0 +1,67 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.dto.SystemStatsResponse;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserProgress;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.UserProgressRepository;
+import com.leetcodetracker.code.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Admin dashboard queries. Each runs in one read-only transaction, so Hibernate keeps no
+ * dirty-checking snapshots, never flushes, and the work goes to the read DataSource when one is
+ * configured.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminDashboardService {
+
+    private final UserRepository userRepository;
+    private final ProblemRepository problemRepository;
+    private final UserProgressRepository userProgressRepository;
+
+    public List<UserProgressResponse> getUsersWithProgress() {
+        // Get only regular users, exclude admins
+        List<User> users = userRepository.findByRole(UserRole.USER);
+
+        // Counters are maintained on write, so this is one lookup per user rather than an aggregation
+        Map<UUID, ProgressCounts> progressByUser = new HashMap<>();
+        for (UserProgress progress : userProgressRepository.findByUserRole(UserRole.USER)) {
+            progressByUser.put(progress.getUserId(), progress.toCounts());
+        }
+
+        return users.stream()
+                .map(user -> UserProgressResponse.of(user,
+                        progressByUser.getOrDefault(user.getUserId(), ProgressCounts.ZERO)))
+                .collect(Collectors.toList());
+    }
+
+    public List<ProblemResponse> getUserProblems(UUID userId) {
+        // Search only from users with role USER, otherwise return RuntimeException("User not found")
+        userRepository.findById(userId)
+                .filter(u -> u.getRole() == UserRole.USER)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        return problemRepository.findResponsesByUserId(userId);
+    }
+
+    public SystemStatsResponse getSystemStats() {
+        // Make sure counted users have role USER and no ADMIN among them
+        long totalUsers = userRepository.countByRole(UserRole.USER);
+        return SystemStatsResponse.of(totalUsers, userProgressRepository.sumAll());
+    }
+}
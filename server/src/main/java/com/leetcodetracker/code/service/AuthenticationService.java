@@ -3,6 +3,7 @@ package com.leetcodetracker.code.service;
 import com.leetcodetracker.code.entity.User;
 import com.leetcodetracker.code.entity.UserRole;
 import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.security.PasswordHashingPool;
 import com.leetcodetracker.code.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +25,9 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final UserProgressService userProgressService;
+    private final ProblemVersionStamps versionStamps;
+    private final PasswordHashingPool passwordHashingPool;
 
     public Map<String, Object> signup(String username, String email, String password, UserRole role) {
         // Check if user already exists
@@ -46,6 +51,8 @@ public class AuthenticationService {
                 .build();
 
         userRepository.save(user);
+        userProgressService.initialize(user);
+        versionStamps.bumpGlobalAfterCommit();
 
         // Return user info without token - user needs to login to get token
         Map<String, Object> response = new HashMap<>();
@@ -60,6 +67,25 @@ public class AuthenticationService {
         return response;
     }
 
+    /**
+     * Runs {@link #signup} on the password hashing pool.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pool is saturated
+     */
+    public CompletableFuture<Map<String, Object>> signupAsync(String username, String email, String password,
+                                                              UserRole role) {
+        return passwordHashingPool.submit(() -> signup(username, email, password, role));
+    }
+
+    /**
+     * Runs {@link #login} on the password hashing pool.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pool is saturated
+     */
+    public CompletableFuture<Map<String, Object>> loginAsync(String username, String password) {
+        return passwordHashingPool.submit(() -> login(username, password));
+    }
+
     public Map<String, Object> login(String username, String password) {
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -67,7 +93,11 @@ public class AuthenticationService {
             );
 
             User user = (User) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(user);
+            // Identity claims let the JWT filter resolve the principal without a username lookup
+            String token = jwtUtil.generateToken(user, Map.of(
+                    JwtUtil.CLAIM_USER_ID, user.getUserId().toString(),
+                    JwtUtil.CLAIM_CREDENTIAL_VERSION, user.getCredentialVersion()
+            ));
 
             Map<String, Object> response = new HashMap<>();
             response.put("token", token);
@@ -0,0 +1,165 @@
+package com.leetcodetracker.code.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetcodetracker.code.dto.DashboardDelta;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes admin dashboard changes over Server-Sent Events. Committed counter changes are merged in
+ * memory for {@code dashboard.stream.coalesce-window} and then broadcast as one {@code delta} event,
+ * so a bulk import produces a single event and the number of watching admins never adds database
+ * work: the payload is built once per window, with one lookup that drops non-{@code USER} accounts
+ * the way the REST listing does, and serialized once for everyone.
+ */
+@Service
+public class DashboardStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final Duration coalesceWindow;
+    private final Duration timeout;
+    private final ScheduledExecutorService scheduler;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final Object lock = new Object();
+    private Map<UUID, ProgressCounts> pendingUsers = new HashMap<>();
+    private List<UserProgressResponse> pendingNewUsers = new ArrayList<>();
+    private boolean flushScheduled;
+
+    public DashboardStreamService(ObjectMapper objectMapper,
+                                  UserRepository userRepository,
+                                  @Value("${dashboard.stream.coalesce-window:PT0.25S}") Duration coalesceWindow,
+                                  @Value("${dashboard.stream.timeout:PT30M}") Duration timeout,
+                                  @Value("${dashboard.stream.heartbeat:PT30S}") Duration heartbeat) {
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.coalesceWindow = coalesceWindow;
+        this.timeout = timeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Keeps idle connections from being cut by proxies and notices admins who went away
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        try {
+            // Commits the response headers right away so clients know the stream is open
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return emitters.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ProgressChangedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            pendingUsers.merge(event.userId(), event.delta(), ProgressCounts::plus);
+            if (event.newUser() != null && event.newUser().role() == UserRole.USER) {
+                pendingNewUsers.add(event.newUser());
+            }
+            if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    void flush() {
+        Map<UUID, ProgressCounts> users;
+        List<UserProgressResponse> newUsers;
+        synchronized (lock) {
+            users = pendingUsers;
+            newUsers = pendingNewUsers;
+            pendingUsers = new HashMap<>();
+            pendingNewUsers = new ArrayList<>();
+            flushScheduled = false;
+        }
+        // A create followed by a delete inside one window nets out to nothing worth sending
+        users.values().removeIf(ProgressCounts::isZero);
+        if (users.isEmpty() && newUsers.isEmpty()) {
+            return;
+        }
+        // Totals cover every account, as /stats sums them; the per-user rows only the listed ones
+        ProgressCounts totals = users.values().stream().reduce(ProgressCounts.ZERO, ProgressCounts::plus);
+        if (!users.isEmpty()) {
+            users.keySet().retainAll(userRepository.findIdsByRole(users.keySet(), UserRole.USER));
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new DashboardDelta(users, totals, newUsers));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize dashboard delta", e);
+        }
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event().name("delta").data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter already completed
+            emitters.remove(emitter);
+        }
+    }
+
+    // Runs before the web server's graceful shutdown, which would otherwise wait on every open stream
+    @EventListener(ContextClosedEvent.class)
+    void closeStreams() {
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
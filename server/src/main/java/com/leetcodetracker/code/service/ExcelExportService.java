@@ -1,49 +1,66 @@
 package com.leetcodetracker.code.service;
 
 import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
 
 @Service
 @RequiredArgsConstructor
 public class ExcelExportService {
+    // Rows kept in memory before SXSSF flushes them to its temp file
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final String[] COLUMNS = {"ID", "Name", "Comment", "Link", "Status", "Level", "Posted Time", "Done Time"};
+
     private final ProblemService problemService;
+    private final ExportMetrics exportMetrics;
+
+    /**
+     * Writes the user's problems straight to {@code out} using a windowed SXSSF workbook fed from a
+     * database cursor, so heap use does not depend on the number of rows.
+     */
+    public void writeExcel(User user, OutputStream out) throws IOException {
+        exportMetrics.measure("excel", "user", out, counted -> writeWorkbook(user, counted));
+    }
 
-    public ByteArrayInputStream exportToExcel() throws IOException {
-        List<Problem> problems = problemService.getAllProblems();
-        try (Workbook workbook = new XSSFWorkbook()) {
+    private void writeWorkbook(User user, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Problems");
+            writeHeader(sheet);
+
+            int[] rowNum = {1};
+            problemService.forEachProblem(user, problem -> writeRow(sheet.createRow(rowNum[0]++), problem));
 
-            Row headerRow = sheet.createRow(0);
-            String[] columns = {"ID", "Name", "Comment", "Link", "Status", "Level", "Posted Time", "Done Time"};
-            for (int i = 0; i < columns.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
-            }
-
-            int rowNum = 1;
-            for (Problem problem : problems) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(problem.getProblemId().toString());
-                row.createCell(1).setCellValue(problem.getProblemName());
-                row.createCell(2).setCellValue(problem.getComment());
-                row.createCell(3).setCellValue(problem.getLink());
-                row.createCell(4).setCellValue(problem.getStatus().toString());
-                row.createCell(5).setCellValue(problem.getLevel().toString());
-                row.createCell(6).setCellValue(problem.getTimePosted().toString());
-                row.createCell(7).setCellValue(problem.getDoneTime() != null ? problem.getDoneTime().toString() : "");
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
             workbook.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
+
+    private void writeHeader(Sheet sheet) {
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(COLUMNS[i]);
+        }
+    }
+
+    private void writeRow(Row row, Problem problem) {
+        row.createCell(0).setCellValue(problem.getProblemId().toString());
+        row.createCell(1).setCellValue(problem.getProblemName());
+        row.createCell(2).setCellValue(problem.getComment());
+        row.createCell(3).setCellValue(problem.getLink());
+        row.createCell(4).setCellValue(problem.getStatus().toString());
+        row.createCell(5).setCellValue(problem.getLevel().toString());
+        row.createCell(6).setCellValue(problem.getTimePosted().toString());
+        row.createCell(7).setCellValue(problem.getDoneTime() != null ? problem.getDoneTime().toString() : "");
+    }
 }
@@ -0,0 +1,44 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.util.CountingOutputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+
+/**
+ * Records {@code problems.export} (duration) and {@code problems.export.bytes} (size) for the
+ * streaming exporters, tagged by format and scope ({@code user} or {@code all}).
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @FunctionalInterface
+    public interface ExportWriter<E extends Exception> {
+        void writeTo(OutputStream out) throws E;
+    }
+
+    public <E extends Exception> void measure(String format, String scope, OutputStream out, ExportWriter<E> writer)
+            throws E {
+        CountingOutputStream counted = new CountingOutputStream(out);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            writer.writeTo(counted);
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("problems.export", "format", format, "scope", scope, "outcome", outcome));
+            DistributionSummary.builder("problems.export.bytes")
+                    .baseUnit("bytes")
+                    .tags("format", format, "scope", scope)
+                    .register(meterRegistry)
+                    .record(counted.getCount());
+        }
+    }
+}
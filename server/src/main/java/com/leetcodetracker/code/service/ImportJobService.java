@@ -0,0 +1,174 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.ImportJobState;
+import com.leetcodetracker.code.dto.ImportJobStatus;
+import com.leetcodetracker.code.dto.ImportResult;
+import com.leetcodetracker.code.entity.User;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs JSON imports in the background: the upload is spooled to a temp file, a job id is handed
+ * back immediately and a bounded worker pool feeds the file through
+ * {@link ProblemService#importProblemsFromJson}. Finished jobs are kept for polling until
+ * {@code problems.import-jobs.retention} has passed, then dropped every
+ * {@code problems.import-jobs.purge-interval} (and on submit).
+ */
+@Service
+public class ImportJobService {
+
+    private final ProblemService problemService;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ProblemService problemService,
+                            @Value("${problems.import-jobs.threads:2}") int threads,
+                            @Value("${problems.import-jobs.queue-capacity:16}") int queueCapacity,
+                            @Value("${problems.import-jobs.retention:PT1H}") Duration retention,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.problemService = problemService;
+        this.retention = retention;
+        // The pool size still bounds how many imports write at once; virtual workers only stop a job
+        // blocked on JDBC from holding a platform thread
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("import-job-", 1).factory()
+                : Thread.ofPlatform().name("import-job-", 1).factory();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Spools the upload and queues it for import.
+     *
+     * @throws RejectedExecutionException if the worker pool and its queue are full
+     */
+    public ImportJobStatus submit(MultipartFile file, User owner) throws IOException {
+        ProblemService.validateJsonUpload(file);
+        purgeExpiredJobs();
+
+        Path spooled = Files.createTempFile("problem-import-", ".json");
+        try {
+            file.transferTo(spooled);
+            ImportJob job = new ImportJob(UUID.randomUUID(), owner.getUserId());
+            jobs.put(job.id, job);
+            try {
+                executor.execute(() -> run(job, spooled, owner));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id);
+                throw e;
+            }
+            return job.toStatus();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+    }
+
+    public Optional<ImportJobStatus> getJob(UUID jobId, User owner) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.ownerId.equals(owner.getUserId()))
+                .map(ImportJob::toStatus);
+    }
+
+    private void run(ImportJob job, Path spooled, User owner) {
+        job.start();
+        try (InputStream in = Files.newInputStream(spooled)) {
+            job.complete(problemService.importProblemsFromJson(in, owner, job::update));
+        } catch (Exception e) {
+            job.fail(e);
+        } finally {
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException ignored) {
+                // the temp directory is cleaned up by the OS eventually
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${problems.import-jobs.purge-interval:PT5M}",
+               initialDelayString = "${problems.import-jobs.purge-interval:PT5M}")
+    void purgeExpiredJobs() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.getTime() < cutoff);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class ImportJob {
+        private final UUID id;
+        private final UUID ownerId;
+        private final Date submittedAt = new Date();
+        private volatile ImportJobState state = ImportJobState.QUEUED;
+        private volatile ImportResult progress = new ImportResult(0, 0, 0, List.of());
+        private volatile String message;
+        private volatile Date startedAt;
+        private volatile Date finishedAt;
+
+        private ImportJob(UUID id, UUID ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+
+        void start() {
+            startedAt = new Date();
+            state = ImportJobState.RUNNING;
+        }
+
+        void update(ImportResult progress) {
+            this.progress = progress;
+        }
+
+        void complete(ImportResult result) {
+            progress = result;
+            finish(ImportJobState.COMPLETED);
+        }
+
+        void fail(Throwable failure) {
+            // Many exceptions (NPEs, bare IOExceptions) carry no message; report at least their type
+            message = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getName();
+            finish(ImportJobState.FAILED);
+        }
+
+        private void finish(ImportJobState terminal) {
+            finishedAt = new Date();
+            // Written last: pollers treat a terminal state as "all other fields are final"
+            state = terminal;
+        }
+
+        ImportJobStatus toStatus() {
+            ImportResult current = progress;
+            double rowsPerSecond = 0;
+            if (startedAt != null) {
+                long end = finishedAt != null ? finishedAt.getTime() : System.currentTimeMillis();
+                double seconds = Math.max(end - startedAt.getTime(), 1) / 1000.0;
+                rowsPerSecond = current.processed() / seconds;
+            }
+            return new ImportJobStatus(id, state, current.processed(), current.imported(), current.failed(),
+                    rowsPerSecond, current.errors(), message, submittedAt, startedAt, finishedAt);
+        }
+    }
+}
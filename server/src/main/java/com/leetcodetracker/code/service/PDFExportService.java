@@ -6,53 +6,83 @@ import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.*;
 import com.itextpdf.layout.property.UnitValue;
 import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class PDFExportService {
+    private static final float[] COLUMN_WIDTHS = {7f, 12f, 18f, 18f, 8f, 8f, 12f, 12f};
+    private static final String[] HEADERS = {"ID", "Name", "Comment", "Link", "Status", "Level", "Posted Time", "Done Time"};
+    // Rows added to a large table before its finished part is laid out and written
+    private static final int FLUSH_EVERY_ROWS = 200;
+
     private final ProblemService problemService;
+    private final ExportMetrics exportMetrics;
 
-    public ByteArrayInputStream exportToPDF() {
-        List<Problem> problems = problemService.getAllProblems();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+    /**
+     * Writes the user's problems straight to {@code out}, reading them from a database cursor.
+     */
+    public void writePdf(User user, OutputStream out) {
+        exportMetrics.measure("pdf", "user", out,
+                counted -> writeLargeTable(counted, action -> problemService.forEachProblem(user, action)));
+    }
 
+    /**
+     * Writes every problem in the system straight to {@code out}, reading them from a database cursor.
+     */
+    public void writeAllPdf(OutputStream out) {
+        exportMetrics.measure("pdf", "all", out,
+                counted -> writeLargeTable(counted, problemService::forEachProblemForAdmin));
+    }
 
+    // Uses iText's large-table mode: rows are flushed to the PDF every FLUSH_EVERY_ROWS rows instead
+    // of keeping the layout tree for every cell until document.close().
+    private void writeLargeTable(OutputStream out, Consumer<Consumer<Problem>> rows) {
         PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
         PdfDocument pdfDocument = new PdfDocument(writer);
         pdfDocument.setDefaultPageSize(PageSize.A4.rotate());
         Document document = new Document(pdfDocument);
 
         document.add(new Paragraph("Problem List").setBold().setFontSize(16));
 
-        Table table = new Table(new float[]{7f, 12f, 18f, 18f, 8f, 8f, 12f, 12f});
+        Table table = new Table(COLUMN_WIDTHS, true);
         table.setWidth(UnitValue.createPercentValue(100));
-        table.setAutoLayout();
-
-        String[] headers = {"ID", "Name", "Comment", "Link", "Status", "Level", "Posted Time", "Done Time"};
-        for (String header : headers) {
-            table.addHeaderCell(new Cell().add(new Paragraph(header).setBold().setFontSize(10)));
-        }
+        table.setFixedLayout();
+        addHeaderCells(table);
+        document.add(table);
 
-        for (Problem problem : problems) {
-            table.addCell(new Cell().add(new Paragraph(problem.getProblemId().toString()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getProblemName()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getComment()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getLink()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getStatus().toString()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getLevel().toString()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getTimePosted().toString()).setFontSize(9)));
-            table.addCell(new Cell().add(new Paragraph(problem.getDoneTime() != null ? problem.getDoneTime().toString() : "").setFontSize(9)));
-        }
+        int[] rowCount = {0};
+        rows.accept(problem -> {
+            addRow(table, problem);
+            if (++rowCount[0] % FLUSH_EVERY_ROWS == 0) {
+                table.flush();
+            }
+        });
 
-        document.add(table);
+        table.complete();
         document.close();
+    }
+
+    private void addHeaderCells(Table table) {
+        for (String header : HEADERS) {
+            table.addHeaderCell(new Cell().add(new Paragraph(header).setBold().setFontSize(10)));
+        }
+    }
 
-        return new ByteArrayInputStream(out.toByteArray());
+    private void addRow(Table table, Problem problem) {
+        table.addCell(new Cell().add(new Paragraph(problem.getProblemId().toString()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getProblemName()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getComment()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getLink()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getStatus().toString()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getLevel().toString()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getTimePosted().toString()).setFontSize(9)));
+        table.addCell(new Cell().add(new Paragraph(problem.getDoneTime() != null ? problem.getDoneTime().toString() : "").setFontSize(9)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.ProblemSearchEntry;
+import com.leetcodetracker.code.util.ExpiringLruCache;
+import com.leetcodetracker.code.util.ProblemTextIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search over a user's problem names and comments. Each user's {@link ProblemTextIndex} is built
+ * from the database on their first search and then kept current by {@link ProblemService} writes
+ * once they commit. Indexes of users who have not searched for {@code problems.search.idle-ttl}
+ * are dropped, and at most {@code problems.search.max-users} are held.
+ */
+@Slf4j
+@Service
+public class ProblemSearchService {
+
+    public static final int MAX_RESULTS = 100;
+
+    private final ProblemRepository repository;
+    private final ExpiringLruCache<UUID, UserIndex> indexes;
+    private final long idleTtlMillis;
+
+    public ProblemSearchService(ProblemRepository repository,
+                                @Value("${problems.search.max-users:1000}") int maxUsers,
+                                @Value("${problems.search.idle-ttl:PT30M}") Duration idleTtl) {
+        this.repository = repository;
+        this.indexes = new ExpiringLruCache<>(maxUsers);
+        this.idleTtlMillis = idleTtl.toMillis();
+    }
+
+    /**
+     * Returns the user's best matches for {@code query}, best first.
+     *
+     * @throws IllegalArgumentException if the query has no words to search for
+     */
+    public List<ProblemResponse> search(UUID userId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        List<UUID> ids = indexFor(userId).search(query, Math.max(1, Math.min(limit, MAX_RESULTS)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProblemResponse> rows = repository.findResponsesByUserIdAndIds(userId, ids).stream()
+                .collect(Collectors.toMap(ProblemResponse::problemId, Function.identity()));
+        // A row deleted between the index lookup and this read is simply left out
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    public void indexAfterCommit(Problem problem) {
+        UUID userId = problem.getUser().getUserId();
+        UUID problemId = problem.getProblemId();
+        String name = problem.getProblemName();
+        String comment = problem.getComment();
+        AfterCommit.run(() -> update(userId, index -> index.put(problemId, name, comment)));
+    }
+
+    public void removeAfterCommit(UUID userId, Collection<UUID> problemIds) {
+        List<UUID> removed = List.copyOf(problemIds);
+        AfterCommit.run(() -> update(userId, index -> removed.forEach(index::remove)));
+    }
+
+    /**
+     * Drops the user's index after bulk writes; it is rebuilt on the next search, which is cheaper
+     * than replaying thousands of rows into it.
+     */
+    public void invalidateAfterCommit(UUID userId) {
+        AfterCommit.run(() -> indexes.invalidate(userId));
+    }
+
+    private UserIndex indexFor(UUID userId) {
+        // Atomic, so an index dropped by invalidateAfterCommit is never put back by a search that
+        // fetched it earlier; each use pushes the idle TTL out without replacing the entry
+        return indexes.getOrCreate(userId, UserIndex::new, System.currentTimeMillis() + idleTtlMillis);
+    }
+
+    private void update(UUID userId, Consumer<ProblemTextIndex> change) {
+        UserIndex index = indexes.get(userId);
+        if (index != null) {
+            index.update(change);
+        }
+    }
+
+    /**
+     * Holder that builds its index lazily. Building and updates take the write lock, so an update
+     * committed while the index is being loaded waits and is applied on top of the loaded rows;
+     * updates that arrive before anything is loaded are skipped because the load will see them.
+     */
+    private final class UserIndex {
+
+        private final UUID userId;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private ProblemTextIndex index;
+
+        UserIndex(UUID userId) {
+            this.userId = userId;
+        }
+
+        List<UUID> search(String query, int limit) {
+            lock.readLock().lock();
+            try {
+                if (index != null) {
+                    return index.search(query, limit);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            lock.writeLock().lock();
+            try {
+                if (index == null) {
+                    index = load();
+                }
+                return index.search(query, limit);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void update(Consumer<ProblemTextIndex> change) {
+            lock.writeLock().lock();
+            try {
+                if (index != null) {
+                    change.accept(index);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private ProblemTextIndex load() {
+            long start = System.nanoTime();
+            ProblemTextIndex loaded = new ProblemTextIndex();
+            for (ProblemSearchEntry entry : repository.findSearchEntries(userId)) {
+                loaded.put(entry.getProblemId(), entry.getProblemName(), entry.getComment());
+            }
+            log.debug("Built search index for user {}: {} problems in {} ms", userId, loaded.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        }
+    }
+}
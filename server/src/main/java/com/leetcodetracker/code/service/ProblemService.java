@@ -1,31 +1,96 @@
 package com.leetcodetracker.code.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetcodetracker.code.dto.BulkDelete;
+import com.leetcodetracker.code.dto.BulkResult;
+import com.leetcodetracker.code.dto.BulkStatusUpdate;
+import com.leetcodetracker.code.dto.ImportResult;
+import com.leetcodetracker.code.dto.ProblemChanges;
+import com.leetcodetracker.code.dto.ProblemCursor;
+import com.leetcodetracker.code.dto.ProblemFilter;
+import com.leetcodetracker.code.dto.ProblemPage;
+import com.leetcodetracker.code.dto.ProblemPatch;
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.dto.ProblemSortField;
+import com.leetcodetracker.code.dto.ProblemSyncToken;
+import com.leetcodetracker.code.dto.ProgressCounts;
 import com.leetcodetracker.code.entity.Problem;
 import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.ProblemTombstone;
 import com.leetcodetracker.code.entity.User;
 import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.ProblemSpecifications;
+import com.leetcodetracker.code.repository.ProblemState;
+import com.leetcodetracker.code.repository.ProblemTombstoneRepository;
+import com.leetcodetracker.code.service.SolveAnalyticsService.Solve;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProblemService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_REPORTED_IMPORT_ERRORS = 100;
+
     @Autowired
     private final ProblemRepository repository;
-    
-    private User getCurrentUser() {
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProgressService userProgressService;
+    private final ProblemVersionStamps versionStamps;
+    private final ProblemSearchService searchService;
+    private final SolveAnalyticsService solveAnalytics;
+    private final ProblemTombstoneRepository tombstoneRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${problems.ingest.batch-size:500}")
+    private int ingestBatchSize;
+    @Value("${problems.sync.overlap:PT5S}")
+    private Duration syncOverlap;
+    @Value("${problems.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention;
+    @Value("${problems.bulk.max-ids:1000}")
+    private int bulkMaxIds;
+
+    public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof User) {
             return (User) authentication.getPrincipal();
@@ -33,99 +98,557 @@ public class ProblemService {
         throw new RuntimeException("User not authenticated");
     }
     
+    @Transactional
     public Problem createProblem(Problem problem) {
-        System.out.println("create problem called!");
         problem.setTimePosted(new Date());
         problem.setUser(getCurrentUser());
-        return repository.save(problem);
+        if (problem.getStatus() == ProblemStatus.DONE && problem.getDoneTime() == null) {
+            problem.setDoneTime(problem.getTimePosted());
+        }
+        log.debug("Creating problem for user {}", problem.getUser().getUserId());
+        Problem saved = repository.save(problem);
+        userProgressService.recordCreated(saved.getUser().getUserId(), saved.getStatus());
+        solveAnalytics.recordChange(saved.getUser().getUserId(), null, solveAnalytics.solveOf(saved));
+        versionStamps.bumpAfterCommit(saved.getUser().getUserId());
+        searchService.indexAfterCommit(saved);
+        return saved;
     }
 
+    @Transactional
     public List<Problem> createProblemsBulk(List<Problem> problems) {
-        System.out.println("create problems bulk called! Count: " + problems.size());
+        log.debug("Bulk creating {} problems", problems.size());
         Date currentTime = new Date();
         User currentUser = getCurrentUser();
         
         // Set timePosted for all problems and doneTime for DONE problems
         for (Problem problem : problems) {
-            problem.setTimePosted(currentTime);
-            problem.setUser(currentUser);
-            if (problem.getStatus() == ProblemStatus.DONE) {
-                problem.setDoneTime(currentTime);
-            }
+            prepareForInsert(problem, currentUser, currentTime);
         }
         
-        return repository.saveAll(problems);
+        persistInBatches(problems);
+        userProgressService.apply(currentUser.getUserId(), countByStatus(problems));
+        solveAnalytics.apply(currentUser.getUserId(), List.of(), solvesOf(problems));
+        versionStamps.bumpAfterCommit(currentUser.getUserId());
+        searchService.invalidateAfterCommit(currentUser.getUserId());
+        return problems;
+    }
+
+    private static ProgressCounts countByStatus(List<Problem> problems) {
+        ProgressCounts counts = ProgressCounts.ZERO;
+        for (Problem problem : problems) {
+            counts = counts.plus(ProgressCounts.forStatus(problem.getStatus(), 1));
+        }
+        return counts;
+    }
+
+    private List<Solve> solvesOf(List<Problem> problems) {
+        List<Solve> solves = new ArrayList<>();
+        for (Problem problem : problems) {
+            solves.add(solveAnalytics.solveOf(problem));
+        }
+        return solves;
     }
+
+    private void prepareForInsert(Problem problem, User user, Date currentTime) {
+        // Bulk uploads always create new rows; ignore any client supplied id
+        problem.setProblemId(null);
+        problem.setTimePosted(currentTime);
+        problem.setUser(user);
+        if (problem.getStatus() == ProblemStatus.DONE) {
+            problem.setDoneTime(currentTime);
+        }
+    }
+
+    /**
+     * Persists the problems in chunks of {@code problems.ingest.batch-size}, flushing each chunk as
+     * one JDBC batch and clearing the persistence context so it never holds more than one chunk.
+     */
+    private void persistInBatches(Iterable<Problem> problems) {
+        int pending = 0;
+        for (Problem problem : problems) {
+            entityManager.persist(problem);
+            if (++pending == ingestBatchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Transactional(readOnly = true)
     public List<Problem> getAllProblems() {
         User currentUser = getCurrentUser();
         return repository.findByUser(currentUser);
     }
+
+    @Transactional(readOnly = true)
+    public List<ProblemResponse> listProblems() {
+        return repository.findResponsesByUser(getCurrentUser());
+    }
+
+    /**
+     * Returns what changed in the current user's list since {@code token}, or the full list with
+     * {@code reset} set when there is no token or it predates the tombstone retention window.
+     * The next token is backdated by the sync overlap so writes still in flight when this runs
+     * (stamped earlier, committed later) are picked up on the next call; clients apply changes
+     * by id, so seeing a row twice is harmless.
+     */
+    @Transactional(readOnly = true)
+    public ProblemChanges getChangesSince(String token) {
+        User currentUser = getCurrentUser();
+        ProblemSyncToken since = token != null ? ProblemSyncToken.decode(token) : null;
+        long now = System.currentTimeMillis();
+        String nextToken = new ProblemSyncToken(new Date(now - syncOverlap.toMillis())).encode();
+
+        if (since == null || since.since().getTime() < now - tombstoneRetention.toMillis()) {
+            return new ProblemChanges(repository.findResponsesByUser(currentUser), List.of(), nextToken, true);
+        }
+        List<ProblemResponse> changed = repository.findResponsesUpdatedSince(currentUser, since.since());
+        List<UUID> deleted = tombstoneRepository.findDeletedProblemIds(currentUser.getUserId(), since.since());
+        return new ProblemChanges(changed, deleted, nextToken, false);
+    }
+
+    @Scheduled(fixedDelayString = "${problems.sync.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public int purgeTombstones() {
+        return tombstoneRepository.deleteOlderThan(new Date(System.currentTimeMillis() - tombstoneRetention.toMillis()));
+    }
     
+    @Transactional(readOnly = true)
+    public ProblemPage getProblemsPage(ProblemFilter filter, ProblemSortField sortField, Sort.Direction direction,
+                                       String cursorToken, int limit) {
+        User currentUser = getCurrentUser();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Specification<Problem> spec = ProblemSpecifications.ownedBy(currentUser)
+                .and(ProblemSpecifications.matching(filter));
+        if (sortField == ProblemSortField.DONE_TIME) {
+            // Only finished problems carry a doneTime to order by
+            spec = spec.and(ProblemSpecifications.hasValue(sortField.getProperty()));
+        }
+        if (cursorToken != null && !cursorToken.isBlank()) {
+            ProblemCursor cursor = ProblemCursor.decode(cursorToken);
+            if (cursor.sortField() != sortField || cursor.direction() != direction) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            spec = spec.and(ProblemSpecifications.after(cursor));
+        }
+
+        Sort sort = Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "problemId"));
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<ProblemResponse> rows = selectResponses(spec, sort, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new ProblemPage(rows, null);
+        }
+        List<ProblemResponse> items = rows.subList(0, pageSize);
+        ProblemResponse last = items.get(pageSize - 1);
+        Date lastValue = sortField == ProblemSortField.DONE_TIME ? last.doneTime() : last.timePosted();
+        String nextCursor = new ProblemCursor(sortField, direction, lastValue, last.problemId()).encode();
+        return new ProblemPage(items, nextCursor);
+    }
+
+    // Specification queries through the repository always materialise entities; select the columns instead
+    private List<ProblemResponse> selectResponses(Specification<Problem> spec, Sort sort, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProblemResponse> query = cb.createQuery(ProblemResponse.class);
+        Root<Problem> root = query.from(Problem.class);
+        query.select(ProblemResponse.select(root, cb))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query).setMaxResults(maxResults).getResultList();
+    }
+
+    /**
+     * Streams the user's problems from a database cursor, detaching each row once it has been
+     * handed to {@code action} so the persistence context stays empty however many rows there are.
+     */
+    @Transactional(readOnly = true)
+    public void forEachProblem(User user, Consumer<Problem> action) {
+        try (Stream<Problem> problems = repository.streamByUser(user)) {
+            forEachDetached(problems, action);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachProblemForAdmin(Consumer<Problem> action) {
+        try (Stream<Problem> problems = repository.streamAll()) {
+            forEachDetached(problems, action);
+        }
+    }
+
+    private void forEachDetached(Stream<Problem> problems, Consumer<Problem> action) {
+        problems.forEach(problem -> {
+            action.accept(problem);
+            entityManager.detach(problem);
+        });
+    }
+
+    @Transactional(readOnly = true)
     public List<Problem> getAllProblemsForAdmin() {
         return repository.findAll();
     }
     
+    @Transactional(readOnly = true)
     public Optional<Problem> getProblemById(UUID id) {
         User currentUser = getCurrentUser();
         return repository.findByProblemIdAndUser(id, currentUser);
     }
 
+    @Transactional
     public Problem updateProblem(UUID id, Problem updateProblem) {
         User currentUser = getCurrentUser();
         return repository.findByProblemIdAndUser(id, currentUser).map(problem -> {
+            log.debug("Updating problem {}: status {} -> {}", id, problem.getStatus(), updateProblem.getStatus());
+            Solve before = solveAnalytics.solveOf(problem);
+            userProgressService.recordStatusChange(currentUser.getUserId(), problem.getStatus(), updateProblem.getStatus());
+            versionStamps.bumpAfterCommit(currentUser.getUserId());
             problem.setProblemName(updateProblem.getProblemName());
             problem.setComment(updateProblem.getComment());
             problem.setLink(updateProblem.getLink());
-            System.out.println("problem.getStatus() = " + problem.getStatus());
             problem.setStatus(updateProblem.getStatus());
             problem.setLevel(updateProblem.getLevel());
             if (updateProblem.getStatus() == ProblemStatus.DONE) {
-                System.out.println("update has been called in the backend");
                 problem.setDoneTime(new Date());
             }
 
-            return repository.save(problem);
+            Problem saved = repository.save(problem);
+            solveAnalytics.recordChange(currentUser.getUserId(), before, solveAnalytics.solveOf(saved));
+            searchService.indexAfterCommit(saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Problem not found"));
     }
 
+    /**
+     * Applies the non-null fields of {@code patch}. The problem must still be at
+     * {@code patch.version()}; if it is not, or another edit commits first, this fails with an
+     * {@link ObjectOptimisticLockingFailureException} instead of overwriting that edit. Only
+     * changed columns are written, and a patch that changes nothing writes nothing.
+     */
+    @Transactional
+    public Optional<Problem> patchProblem(UUID id, ProblemPatch patch) {
+        if (patch.version() == null) {
+            throw new IllegalArgumentException("version is required");
+        }
+        User currentUser = getCurrentUser();
+        return repository.findByProblemIdAndUser(id, currentUser).map(problem -> {
+            if (!patch.version().equals(problem.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Problem.class, id);
+            }
+            Solve before = solveAnalytics.solveOf(problem);
+            boolean textChanged = false;
+            boolean changed = false;
+            if (patch.problemName() != null && !patch.problemName().equals(problem.getProblemName())) {
+                problem.setProblemName(patch.problemName());
+                textChanged = true;
+            }
+            if (patch.comment() != null && !patch.comment().equals(problem.getComment())) {
+                problem.setComment(patch.comment());
+                textChanged = true;
+            }
+            if (patch.link() != null && !patch.link().equals(problem.getLink())) {
+                problem.setLink(patch.link());
+                changed = true;
+            }
+            if (patch.level() != null && patch.level() != problem.getLevel()) {
+                problem.setLevel(patch.level());
+                changed = true;
+            }
+            if (patch.status() != null && patch.status() != problem.getStatus()) {
+                log.debug("Patching problem {}: status {} -> {}", id, problem.getStatus(), patch.status());
+                userProgressService.recordStatusChange(currentUser.getUserId(), problem.getStatus(), patch.status());
+                problem.setStatus(patch.status());
+                if (patch.status() == ProblemStatus.DONE) {
+                    problem.setDoneTime(new Date());
+                }
+                changed = true;
+            }
+            if (changed) {
+                solveAnalytics.recordChange(currentUser.getUserId(), before, solveAnalytics.solveOf(problem));
+            }
+
+            if (textChanged) {
+                searchService.indexAfterCommit(problem);
+            }
+            if (textChanged || changed) {
+                versionStamps.bumpAfterCommit(currentUser.getUserId());
+            }
+            // Dirty checking issues the version-checked UPDATE at commit; no save() needed
+            return problem;
+        });
+    }
+
+    @Transactional
     public void deleteProblem(UUID id) {
         User currentUser = getCurrentUser();
         Optional<Problem> problem = repository.findByProblemIdAndUser(id, currentUser);
         if (problem.isPresent()) {
             repository.deleteById(id);
+            entityManager.persist(new ProblemTombstone(id, currentUser.getUserId(), new Date()));
+            userProgressService.recordDeleted(currentUser.getUserId(), problem.get().getStatus());
+            solveAnalytics.recordChange(currentUser.getUserId(), solveAnalytics.solveOf(problem.get()), null);
+            versionStamps.bumpAfterCommit(currentUser.getUserId());
+            searchService.removeAfterCommit(currentUser.getUserId(), List.of(id));
         } else {
             throw new RuntimeException("Problem not found");
         }
     }
 
-    public List<Problem> importProblemsFromJsonFile(MultipartFile file) throws IOException {
-        System.out.println("import problems from JSON file called! File: " + file.getOriginalFilename());
+    /**
+     * Moves the selected problems to the requested status in one UPDATE, which also stamps
+     * doneTime when they move to DONE. Problems already in that status are left as they are.
+     * When the solve rollups need the moved rows, they are read and locked first (as a
+     * projection) and the UPDATE targets exactly those ids, so rows that reach the source status
+     * meanwhile are neither moved nor counted.
+     */
+    @Transactional
+    public BulkResult updateStatusBulk(BulkStatusUpdate request) {
+        if (request.status() == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        UUID userId = getCurrentUser().getUserId();
+        List<UUID> ids = selectedIds(request.problemIds(), request.fromStatus());
+        Date now = new Date();
+        ProgressCounts delta = ProgressCounts.ZERO;
+        List<Solve> unsolved = new ArrayList<>();
+        List<Solve> solved = new ArrayList<>();
+        int updated;
+        if (ids != null) {
+            for (ProblemState row : repository.findStatesForIds(userId, ids)) {
+                if (row.getStatus() != request.status()) {
+                    delta = delta.plus(statusMove(row.getStatus(), request.status(), 1));
+                    recordMove(row, request.status(), now, unsolved, solved);
+                }
+            }
+            updated = repository.updateStatusForIds(userId, ids, request.status(), now);
+        } else if (request.fromStatus() != request.status()) {
+            if (request.fromStatus() == ProblemStatus.DONE || request.status() == ProblemStatus.DONE) {
+                List<UUID> moving = new ArrayList<>();
+                for (ProblemState row : repository.findStatesForStatus(userId, request.fromStatus())) {
+                    moving.add(row.getProblemId());
+                    recordMove(row, request.status(), now, unsolved, solved);
+                }
+                updated = 0;
+                for (List<UUID> chunk : idChunks(moving)) {
+                    updated += repository.updateStatusForIds(userId, chunk, request.status(), now);
+                }
+            } else {
+                updated = repository.updateStatusForStatus(userId, request.fromStatus(), request.status(), now);
+            }
+            delta = statusMove(request.fromStatus(), request.status(), updated);
+        } else {
+            updated = 0;
+        }
+        log.debug("Bulk status change to {} for user {}: {} problems", request.status(), userId, updated);
+
+        if (updated > 0) {
+            userProgressService.apply(userId, delta);
+            solveAnalytics.apply(userId, unsolved, solved);
+            versionStamps.bumpAfterCommit(userId);
+        }
+        return new BulkResult(updated);
+    }
+
+    /**
+     * Deletes the selected problems after leaving tombstones for them. The rows are read and locked
+     * first, for the counters and solve rollups, and a status selection is resolved to ids there, so
+     * tombstones and DELETE cover exactly the locked rows and a row moving into the status meanwhile
+     * is neither deleted without a tombstone nor left out of the counts.
+     */
+    @Transactional
+    public BulkResult deleteBulk(BulkDelete request) {
+        UUID userId = getCurrentUser().getUserId();
+        List<UUID> ids = selectedIds(request.problemIds(), request.status());
+        Date now = new Date();
+        ProgressCounts removed = ProgressCounts.ZERO;
+        List<Solve> unsolved = new ArrayList<>();
+        int deleted;
+        if (ids != null) {
+            for (ProblemState row : repository.findStatesForIds(userId, ids)) {
+                removed = removed.plus(ProgressCounts.forStatus(row.getStatus(), 1));
+                unsolved.add(solveAnalytics.solveOf(row));
+            }
+            tombstoneRepository.insertForIds(userId, ids, now);
+            deleted = repository.deleteForIds(userId, ids);
+            searchService.removeAfterCommit(userId, ids);
+        } else {
+            List<UUID> deleting = new ArrayList<>();
+            for (ProblemState row : repository.findStatesForStatus(userId, request.status())) {
+                deleting.add(row.getProblemId());
+                unsolved.add(solveAnalytics.solveOf(row));
+            }
+            deleted = 0;
+            for (List<UUID> chunk : idChunks(deleting)) {
+                tombstoneRepository.insertForIds(userId, chunk, now);
+                deleted += repository.deleteForIds(userId, chunk);
+            }
+            removed = ProgressCounts.forStatus(request.status(), deleted);
+            searchService.invalidateAfterCommit(userId);
+        }
+        log.debug("Bulk delete for user {}: {} problems", userId, deleted);
+
+        if (deleted > 0) {
+            userProgressService.apply(userId, removed.negate());
+            solveAnalytics.apply(userId, unsolved, List.of());
+            versionStamps.bumpAfterCommit(userId);
+        }
+        return new BulkResult(deleted);
+    }
+
+    /**
+     * Returns the distinct ids to act on, or {@code null} when the request selects by status instead.
+     */
+    private List<UUID> selectedIds(List<UUID> problemIds, ProblemStatus statusFilter) {
+        boolean byIds = problemIds != null && !problemIds.isEmpty();
+        if (byIds == (statusFilter != null)) {
+            throw new IllegalArgumentException("Select problems either by problemIds or by status");
+        }
+        if (!byIds) {
+            return null;
+        }
+        if (problemIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("problemIds must not contain null");
+        }
+        if (problemIds.size() > bulkMaxIds) {
+            throw new IllegalArgumentException("At most " + bulkMaxIds + " problemIds per request");
+        }
+        return List.copyOf(new LinkedHashSet<>(problemIds));
+    }
+
+    /**
+     * Splits ids into IN lists no longer than a by-ids request may send.
+     */
+    private List<List<UUID>> idChunks(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += bulkMaxIds) {
+            chunks.add(ids.subList(from, Math.min(from + bulkMaxIds, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void recordMove(ProblemState row, ProblemStatus to, Date now, List<Solve> unsolved, List<Solve> solved) {
+        unsolved.add(solveAnalytics.solveOf(row));
+        // Mirrors the UPDATE: moving to DONE restamps doneTime, moving away keeps it but stops counting
+        solved.add(solveAnalytics.solveOf(to, row.getLevel(), row.getTimePosted(), to == ProblemStatus.DONE ? now : null));
+    }
+
+    private static ProgressCounts statusMove(ProblemStatus from, ProblemStatus to, long count) {
+        return ProgressCounts.forStatus(to, count).plus(ProgressCounts.forStatus(from, count).negate());
+    }
+
+    public ImportResult importProblemsFromJsonFile(MultipartFile file) throws IOException {
+        log.info("Importing problems from JSON file {}", file.getOriginalFilename());
         
-        // Validate file
+        validateJsonUpload(file);
+        
+        try (InputStream in = file.getInputStream()) {
+            return importProblemsFromJson(in, getCurrentUser(), progress -> log.debug(
+                    "Import progress: {} imported, {} skipped", progress.imported(), progress.failed()));
+        }
+    }
+
+    static void validateJsonUpload(MultipartFile file) {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File is empty");
         }
         
-        if (!file.getOriginalFilename().toLowerCase().endsWith(".json")) {
+        if (file.getOriginalFilename() == null || !file.getOriginalFilename().toLowerCase().endsWith(".json")) {
             throw new IllegalArgumentException("File must be a JSON file");
         }
-        
-        // Parse JSON file
-        ObjectMapper objectMapper = new ObjectMapper();
-        List<Problem> problems;
-        
-        try {
-            problems = objectMapper.readValue(file.getInputStream(), new TypeReference<List<Problem>>() {});
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid JSON format: " + e.getMessage());
+    }
+
+    /**
+     * Reads a JSON array of problems one record at a time and inserts them in committed chunks of
+     * {@code problems.ingest.batch-size}, so memory stays bounded whatever the size of the input.
+     * Records that cannot be bound or miss required fields are skipped and reported rather than
+     * aborting the import; only a syntactically broken document stops it.
+     */
+    public ImportResult importProblemsFromJson(InputStream in, User user, Consumer<ImportResult> progressListener)
+            throws IOException {
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+        List<String> errors = new ArrayList<>();
+        List<Problem> chunk = new ArrayList<>(ingestBatchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Invalid JSON format: expected an array of problems");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Invalid JSON format: unexpected end of input");
+                }
+                processed++;
+                try {
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        throw new IllegalArgumentException("expected a problem object");
+                    }
+                    JsonNode node = parser.readValueAsTree();
+                    chunk.add(validateImported(objectMapper.treeToValue(node, Problem.class)));
+                } catch (JsonMappingException | IllegalArgumentException e) {
+                    // Binding failures skip the record; syntax errors reach the outer handler
+                    failed++;
+                    meterRegistry.counter("problems.import.rows", "outcome", "failed").increment();
+                    if (errors.size() < MAX_REPORTED_IMPORT_ERRORS) {
+                        errors.add("Record " + processed + ": " + e.getMessage());
+                    }
+                }
+
+                if (chunk.size() == ingestBatchSize) {
+                    imported += insertChunk(chunk, user);
+                    progressListener.accept(new ImportResult(processed, imported, failed, List.copyOf(errors)));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON format: " + e.getOriginalMessage());
         }
-        
-        // Validate problems list
-        if (problems == null || problems.isEmpty()) {
+
+        imported += insertChunk(chunk, user);
+        if (processed == 0) {
             throw new IllegalArgumentException("No problems found in the JSON file");
         }
-        
-        // Use existing bulk create method
-        return createProblemsBulk(problems);
+        ImportResult result = new ImportResult(processed, imported, failed, List.copyOf(errors));
+        progressListener.accept(result);
+        return result;
+    }
+
+    private Problem validateImported(Problem problem) {
+        if (problem.getProblemName() == null || problem.getProblemName().isBlank()) {
+            throw new IllegalArgumentException("problemName is required");
+        }
+        if (problem.getStatus() == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        if (problem.getLevel() == null) {
+            throw new IllegalArgumentException("level is required");
+        }
+        return problem;
+    }
+
+    private int insertChunk(List<Problem> chunk, User user) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Date currentTime = new Date();
+        chunk.forEach(problem -> prepareForInsert(problem, user, currentTime));
+        ProgressCounts added = countByStatus(chunk);
+        List<Solve> solves = solvesOf(chunk);
+        transactionTemplate.executeWithoutResult(status -> {
+            persistInBatches(chunk);
+            userProgressService.apply(user.getUserId(), added);
+            solveAnalytics.apply(user.getUserId(), List.of(), solves);
+            versionStamps.bumpAfterCommit(user.getUserId());
+            searchService.invalidateAfterCommit(user.getUserId());
+        });
+        int inserted = chunk.size();
+        chunk.clear();
+        // Counted per committed chunk so rate(problems_import_rows_total) tracks a running import
+        meterRegistry.counter("problems.import.rows", "outcome", "imported").increment(inserted);
+        return inserted;
     }
 }
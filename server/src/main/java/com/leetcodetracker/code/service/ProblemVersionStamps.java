@@ -0,0 +1,47 @@
+package com.leetcodetracker.code.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters used as weak ETags: one per user for their problem list and one
+ * global counter for the admin dashboard. Every write bumps them once its transaction commits, so
+ * an unchanged poll can be answered with 304 before touching the database.
+ */
+@Component
+public class ProblemVersionStamps {
+
+    // Distinguishes this process's counters from a previous run's so ETags never collide after a restart
+    private final long epoch = System.currentTimeMillis();
+    private final Map<UUID, AtomicLong> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    public String userETag(UUID userId) {
+        AtomicLong version = userVersions.get(userId);
+        return "W/\"u" + epoch + "-" + (version != null ? version.get() : 0) + "\"";
+    }
+
+    public String globalETag() {
+        return "W/\"g" + epoch + "-" + globalVersion.get() + "\"";
+    }
+
+    /**
+     * Bumps the user's and the global version after the current transaction commits, or right away
+     * when there is none. Bumping only after commit keeps a concurrent poll from pairing the new
+     * ETag with data read before the write became visible.
+     */
+    public void bumpAfterCommit(UUID userId) {
+        AfterCommit.run(() -> {
+            userVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+            globalVersion.incrementAndGet();
+        });
+    }
+
+    public void bumpGlobalAfterCommit() {
+        AfterCommit.run(globalVersion::incrementAndGet);
+    }
+}
@@ -0,0 +1,14 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link UserProgressService} whenever a user's counters move, inside the writing
+ * transaction; listeners interested in committed state use {@code @TransactionalEventListener}.
+ * {@code newUser} is the user's summary row when the event announces a signup, otherwise null.
+ */
+public record ProgressChangedEvent(UUID userId, ProgressCounts delta, UserProgressResponse newUser) {
+}
@@ -0,0 +1,321 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse.BucketCount;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse.DayCount;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse.WeekCount;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.SolveDay;
+import com.leetcodetracker.code.entity.SolveTimeBucket;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.ProblemState;
+import com.leetcodetracker.code.repository.SolveBucketCount;
+import com.leetcodetracker.code.repository.SolveDateCount;
+import com.leetcodetracker.code.repository.SolveDayRepository;
+import com.leetcodetracker.code.repository.SolveTimeBucketRepository;
+import com.leetcodetracker.code.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Maintains the solve rollups ({@code solve_day}, {@code solve_time_bucket}) that analytics are
+ * read from. A problem counts as one solve while it is DONE with a doneTime: on the day of its
+ * doneTime in {@code analytics.time-zone} and, when its level and posting time are known, in the
+ * time-to-DONE bucket for its level. Writers take a {@link Solve} snapshot before and after a change
+ * and call {@link #apply} inside their own transaction, as with the progress counters; the periodic
+ * {@link #reconcile()} rebuilds the rollups from the problem table, which also backfills problems
+ * finished before the rollups existed. Writers hold a shared lock on the user's row while they
+ * change that user's rollups and reconciliation an exclusive one, so a rebuild never overwrites a
+ * change it did not count.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SolveAnalyticsService {
+
+    public static final int MAX_DAYS = 366;
+    public static final List<String> BUCKET_LABELS = List.of("<1h", "<1d", "<3d", "<1w", "<30d", "<90d", "90d+");
+    // Exclusive upper bounds of all but the last, open-ended, bucket
+    private static final List<Duration> BUCKET_LIMITS = List.of(Duration.ofHours(1), Duration.ofDays(1),
+            Duration.ofDays(3), Duration.ofDays(7), Duration.ofDays(30), Duration.ofDays(90));
+
+    private final SolveDayRepository solveDayRepository;
+    private final SolveTimeBucketRepository bucketRepository;
+    private final ProblemRepository problemRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.time-zone:UTC}")
+    private ZoneId zone;
+
+    /**
+     * What one solved problem adds to the rollups. {@code bucket} is -1 when the time to DONE is
+     * unknown (no level or posting time), in which case only the day is counted.
+     */
+    public record Solve(LocalDate day, ProblemLevel level, int bucket) {
+    }
+
+    private record Streaks(int current, int longest) {
+    }
+
+    public Solve solveOf(Problem problem) {
+        return solveOf(problem.getStatus(), problem.getLevel(), problem.getTimePosted(), problem.getDoneTime());
+    }
+
+    public Solve solveOf(ProblemState state) {
+        return solveOf(state.getStatus(), state.getLevel(), state.getTimePosted(), state.getDoneTime());
+    }
+
+    /**
+     * Returns the problem's solve, or {@code null} if it is not one.
+     */
+    public Solve solveOf(ProblemStatus status, ProblemLevel level, Date timePosted, Date doneTime) {
+        if (status != ProblemStatus.DONE || doneTime == null) {
+            return null;
+        }
+        LocalDate day = doneTime.toInstant().atZone(zone).toLocalDate();
+        if (level == null || timePosted == null) {
+            return new Solve(day, null, -1);
+        }
+        return new Solve(day, level, bucketOf(Duration.between(timePosted.toInstant(), doneTime.toInstant())));
+    }
+
+    static int bucketOf(Duration timeToDone) {
+        for (int i = 0; i < BUCKET_LIMITS.size(); i++) {
+            if (timeToDone.compareTo(BUCKET_LIMITS.get(i)) < 0) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS.size();
+    }
+
+    public void recordChange(UUID userId, Solve before, Solve after) {
+        if (!Objects.equals(before, after)) {
+            apply(userId, before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+        }
+    }
+
+    /**
+     * Takes {@code removed} out of the user's rollups and adds {@code added}; {@code null} entries
+     * are ignored. Runs in the caller's transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID userId, Collection<Solve> removed, Collection<Solve> added) {
+        Map<SolveDay.Key, Long> days = new HashMap<>();
+        Map<SolveTimeBucket.Key, Long> buckets = new HashMap<>();
+        tally(userId, removed, -1, days, buckets);
+        tally(userId, added, 1, days, buckets);
+
+        days.values().removeIf(delta -> delta == 0);
+        buckets.values().removeIf(delta -> delta == 0);
+        if (days.isEmpty() && buckets.isEmpty()) {
+            return;
+        }
+        userRepository.lockSharedById(userId);
+
+        // A missing row with a negative delta was never counted; reconciliation fills it in. A zero
+        // result from the INSERT means a concurrent first write created the row after our UPDATE.
+        days.forEach((key, delta) -> {
+            if (solveDayRepository.increment(key.getUserId(), key.getSolveDate(), delta) == 0 && delta > 0
+                    && solveDayRepository.insertIfAbsent(key.getUserId(), key.getSolveDate(), delta) == 0) {
+                solveDayRepository.increment(key.getUserId(), key.getSolveDate(), delta);
+            }
+        });
+        buckets.forEach((key, delta) -> {
+            if (bucketRepository.increment(key.getUserId(), key.getLevel(), key.getBucket(), delta) == 0 && delta > 0
+                    && bucketRepository.insertIfAbsent(key.getUserId(), key.getLevel().name(), key.getBucket(), delta) == 0) {
+                bucketRepository.increment(key.getUserId(), key.getLevel(), key.getBucket(), delta);
+            }
+        });
+    }
+
+    private static void tally(UUID userId, Collection<Solve> solves, int sign,
+                              Map<SolveDay.Key, Long> days, Map<SolveTimeBucket.Key, Long> buckets) {
+        for (Solve solve : solves) {
+            if (solve == null) {
+                continue;
+            }
+            days.merge(new SolveDay.Key(userId, solve.day()), (long) sign, Long::sum);
+            if (solve.bucket() >= 0) {
+                buckets.merge(new SolveTimeBucket.Key(userId, solve.level(), solve.bucket()), (long) sign, Long::sum);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SolveAnalyticsResponse forUser(UUID userId, int days) {
+        return build(solveDayRepository.findByUser(userId), bucketRepository.findByUser(userId), days);
+    }
+
+    @Transactional(readOnly = true)
+    public SolveAnalyticsResponse systemWide(int days) {
+        return build(solveDayRepository.sumByDate(), bucketRepository.sumByBucket(), days);
+    }
+
+    /**
+     * Shapes rollup rows into the response; {@code dayCounts} must be in date order.
+     */
+    private SolveAnalyticsResponse build(List<SolveDateCount> dayCounts, List<SolveBucketCount> bucketCounts, int days) {
+        int window = Math.max(1, Math.min(days, MAX_DAYS));
+        LocalDate today = LocalDate.now(zone);
+        LocalDate from = today.minusDays(window - 1);
+        LocalDate firstWeek = from.with(DayOfWeek.MONDAY);
+
+        Map<LocalDate, Long> byDay = new HashMap<>();
+        Map<LocalDate, Long> byWeek = new LinkedHashMap<>();
+        for (LocalDate week = firstWeek; !week.isAfter(today); week = week.plusWeeks(1)) {
+            byWeek.put(week, 0L);
+        }
+        List<LocalDate> solveDays = new ArrayList<>(dayCounts.size());
+        for (SolveDateCount count : dayCounts) {
+            LocalDate day = count.getSolveDate();
+            solveDays.add(day);
+            byDay.put(day, count.getSolved());
+            // Weeks are counted whole, including days before the window's first day
+            if (!day.isBefore(firstWeek) && !day.isAfter(today)) {
+                byWeek.merge(day.with(DayOfWeek.MONDAY), count.getSolved(), Long::sum);
+            }
+        }
+
+        List<DayCount> perDay = new ArrayList<>(window);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.add(new DayCount(day, byDay.getOrDefault(day, 0L)));
+        }
+        List<WeekCount> perWeek = byWeek.entrySet().stream()
+                .map(entry -> new WeekCount(entry.getKey(), entry.getValue()))
+                .toList();
+        Streaks streaks = streaks(solveDays, today);
+        return new SolveAnalyticsResponse(perDay, perWeek, streaks.current(), streaks.longest(), timeToDone(bucketCounts));
+    }
+
+    /**
+     * Current and longest run of consecutive days in {@code solveDays} (ascending, distinct). The
+     * current run survives until a whole day passes without a solve.
+     */
+    private static Streaks streaks(List<LocalDate> solveDays, LocalDate today) {
+        int longest = 0;
+        int run = 0;
+        LocalDate previous = null;
+        for (LocalDate day : solveDays) {
+            if (day.isAfter(today)) {
+                break;
+            }
+            run = previous != null && day.equals(previous.plusDays(1)) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = day;
+        }
+        int current = previous != null && !previous.isBefore(today.minusDays(1)) ? run : 0;
+        return new Streaks(current, longest);
+    }
+
+    private static Map<ProblemLevel, List<BucketCount>> timeToDone(List<SolveBucketCount> bucketCounts) {
+        Map<ProblemLevel, long[]> counts = new EnumMap<>(ProblemLevel.class);
+        for (ProblemLevel level : ProblemLevel.values()) {
+            counts.put(level, new long[BUCKET_LABELS.size()]);
+        }
+        for (SolveBucketCount count : bucketCounts) {
+            if (count.getBucket() >= 0 && count.getBucket() < BUCKET_LABELS.size()) {
+                counts.get(count.getLevel())[count.getBucket()] += count.getSolved();
+            }
+        }
+        Map<ProblemLevel, List<BucketCount>> timeToDone = new EnumMap<>(ProblemLevel.class);
+        counts.forEach((level, solved) -> timeToDone.put(level, IntStream.range(0, solved.length)
+                .mapToObj(i -> new BucketCount(BUCKET_LABELS.get(i), solved[i]))
+                .toList()));
+        return timeToDone;
+    }
+
+    // reconcile() opens its own transaction per user, so calling it on this does not depend on the proxy
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds each user's rollups from their solved problems in its own transaction, under the
+     * exclusive lock on the user's row, and rewrites the rows that differ.
+     *
+     * @return the number of users whose rollups were repaired
+     */
+    @Scheduled(fixedDelayString = "${analytics.reconcile-interval:PT1H}",
+               initialDelayString = "${analytics.reconcile-interval:PT1H}")
+    public int reconcile() {
+        int repaired = 0;
+        for (UUID userId : userRepository.findAllUserIds()) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(tx -> repair(userId)))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Solve rollup reconciliation repaired {} user(s)", repaired);
+        }
+        return repaired;
+    }
+
+    private boolean repair(UUID userId) {
+        if (userRepository.lockById(userId).isEmpty()) {
+            return false;
+        }
+        Map<SolveDay.Key, Long> actualDays = new HashMap<>();
+        Map<SolveTimeBucket.Key, Long> actualBuckets = new HashMap<>();
+        for (ProblemState state : problemRepository.findSolvedStates(userId)) {
+            tally(userId, List.of(solveOf(state)), 1, actualDays, actualBuckets);
+        }
+
+        boolean changed = false;
+        for (SolveDay stored : solveDayRepository.findAllByUserId(userId)) {
+            long actual = Objects.requireNonNullElse(actualDays.remove(new SolveDay.Key(userId, stored.getSolveDate())), 0L);
+            if (stored.getSolved() != actual) {
+                stored.setSolved(actual);
+                changed = true;
+            }
+        }
+        for (Map.Entry<SolveDay.Key, Long> missing : actualDays.entrySet()) {
+            entityManager.persist(new SolveDay(userId, missing.getKey().getSolveDate(), missing.getValue()));
+            changed = true;
+        }
+
+        for (SolveTimeBucket stored : bucketRepository.findAllByUserId(userId)) {
+            long actual = Objects.requireNonNullElse(actualBuckets.remove(
+                    new SolveTimeBucket.Key(userId, stored.getLevel(), stored.getBucket())), 0L);
+            if (stored.getSolved() != actual) {
+                stored.setSolved(actual);
+                changed = true;
+            }
+        }
+        for (Map.Entry<SolveTimeBucket.Key, Long> missing : actualBuckets.entrySet()) {
+            SolveTimeBucket.Key key = missing.getKey();
+            entityManager.persist(new SolveTimeBucket(userId, key.getLevel(), key.getBucket(), missing.getValue()));
+            changed = true;
+        }
+        return changed;
+    }
+}
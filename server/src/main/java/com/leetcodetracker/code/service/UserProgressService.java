@@ -0,0 +1,140 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserProgress;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.UserProgressRepository;
+import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.repository.UserStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code user_progress} counters. Writers call {@link #apply} inside their own
+ * transaction so a counter change commits or rolls back together with the problem rows; the
+ * periodic {@link #reconcile()} recounts from the problem table and repairs any drift (for example
+ * rows written outside {@code ProblemService}). Writers change problems before their counters, so
+ * a repair that holds the counter row lock while recounting sees every committed write and none
+ * that can still commit. Every change is published as a {@link ProgressChangedEvent}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProgressService {
+
+    private final UserProgressRepository userProgressRepository;
+    private final ProblemRepository problemRepository;
+    private final UserRepository userRepository;
+    private final ProblemVersionStamps versionStamps;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID userId, ProgressCounts delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        if (userProgressRepository.increment(userId, delta.total(), delta.todo(), delta.doing(), delta.done()) == 0
+                && userProgressRepository.insertIfAbsent(userId, delta.total(), delta.todo(), delta.doing(), delta.done()) == 0) {
+            // A concurrent first write created the row after our UPDATE found none
+            userProgressRepository.increment(userId, delta.total(), delta.todo(), delta.doing(), delta.done());
+        }
+        eventPublisher.publishEvent(new ProgressChangedEvent(userId, delta, null));
+    }
+
+    public void recordCreated(UUID userId, ProblemStatus status) {
+        apply(userId, ProgressCounts.forStatus(status, 1));
+    }
+
+    public void recordStatusChange(UUID userId, ProblemStatus from, ProblemStatus to) {
+        if (from != to) {
+            apply(userId, ProgressCounts.forStatus(to, 1).plus(ProgressCounts.forStatus(from, 1).negate()));
+        }
+    }
+
+    public void recordDeleted(UUID userId, ProblemStatus status) {
+        apply(userId, ProgressCounts.forStatus(status, 1).negate());
+    }
+
+    public void initialize(User user) {
+        if (!userProgressRepository.existsById(user.getUserId())) {
+            userProgressRepository.save(UserProgress.of(user.getUserId(), ProgressCounts.ZERO));
+            eventPublisher.publishEvent(new ProgressChangedEvent(user.getUserId(), ProgressCounts.ZERO,
+                    UserProgressResponse.of(user, ProgressCounts.ZERO)));
+        }
+    }
+
+    // reconcile() opens its own transaction per repaired user, so calling it on this does not
+    // depend on the proxy
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Finds the users whose counters disagree with one grouped count, then repairs each of them in
+     * its own transaction, recounting under the counter row lock so writes committing meanwhile are
+     * neither lost nor counted twice.
+     *
+     * @return the number of users whose counters were repaired
+     */
+    @Scheduled(fixedDelayString = "${progress.reconcile-interval:PT15M}",
+               initialDelayString = "${progress.reconcile-interval:PT15M}")
+    public int reconcile() {
+        Map<UUID, Map<ProblemStatus, Long>> actualByUser = new HashMap<>();
+        for (UserStatusCount row : problemRepository.countByUserAndStatus()) {
+            actualByUser.computeIfAbsent(row.getUserId(), id -> new HashMap<>())
+                    .put(row.getStatus(), row.getProblemCount());
+        }
+        Map<UUID, ProgressCounts> stored = new HashMap<>();
+        userProgressRepository.findAll().forEach(progress -> stored.put(progress.getUserId(), progress.toCounts()));
+
+        int repaired = 0;
+        for (UUID userId : userRepository.findAllUserIds()) {
+            // Unlocked, so only a hint; repair() decides under the lock
+            ProgressCounts actual = ProgressCounts.of(actualByUser.getOrDefault(userId, Map.of()));
+            if (!actual.equals(stored.get(userId)) && Boolean.TRUE.equals(transactionTemplate.execute(tx -> repair(userId)))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("User progress reconciliation repaired {} user(s)", repaired);
+        }
+        return repaired;
+    }
+
+    private boolean repair(UUID userId) {
+        boolean created = userProgressRepository.insertIfAbsent(userId, 0, 0, 0, 0) == 1;
+        UserProgress progress = userProgressRepository.lockById(userId).orElseThrow();
+        Map<ProblemStatus, Long> counts = new HashMap<>();
+        for (UserStatusCount row : problemRepository.countStatusesForUser(userId)) {
+            counts.put(row.getStatus(), row.getProblemCount());
+        }
+        ProgressCounts actual = ProgressCounts.of(counts);
+        if (!created && progress.toCounts().equals(actual)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new ProgressChangedEvent(userId, actual.plus(progress.toCounts().negate()), null));
+        progress.setTotal(actual.total());
+        progress.setTodo(actual.todo());
+        progress.setDoing(actual.doing());
+        progress.setDone(actual.done());
+        versionStamps.bumpGlobalAfterCommit();
+        return true;
+    }
+}
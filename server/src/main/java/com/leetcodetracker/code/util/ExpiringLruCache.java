@@ -0,0 +1,69 @@
+package com.leetcodetracker.code.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Small thread-safe LRU map whose entries also carry their own expiry instant. The least recently
+ * used entry is evicted once {@code maxSize} is exceeded; expired entries are dropped on read.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    private final Map<K, Entry<V>> entries;
+
+    public ExpiringLruCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    /**
+     * Returns the live value for {@code key}, storing one from {@code create} if there is none, and
+     * moves the entry's expiry to {@code expiresAtMillis}. An existing value is never replaced, so a
+     * caller cannot put back an entry that was invalidated after it last read it. {@code create}
+     * runs under the cache lock and should be cheap.
+     */
+    public synchronized V getOrCreate(K key, Function<? super K, ? extends V> create, long expiresAtMillis) {
+        Entry<V> entry = entries.get(key);
+        V value = entry != null && entry.expiresAtMillis() > System.currentTimeMillis()
+                ? entry.value()
+                : create.apply(key);
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -1,28 +1,63 @@
 package com.leetcodetracker.code.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:mySecretKey}")
-    private String secret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_CREDENTIAL_VERSION = "cv";
 
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
-    private Long expiration;
+    private final Long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    // Recently verified tokens keyed by SHA-256 of the token, each entry expiring with the token itself
+    private final ExpiringLruCache<String, Claims> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer verifications;
+    private final Timer rejections;
 
-    private SecretKey getSigningKey() {
+    public JwtUtil(@Value("${jwt.secret:mySecretKey}") String secret,
+                   @Value("${jwt.expiration:86400000}") Long expiration, // 24 hours in milliseconds
+                   @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize,
+                   MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.signingKey = buildSigningKey(secret);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = new ExpiringLruCache<>(verifiedCacheSize);
+        this.cachedVerifications = verifyTimer(meterRegistry, "hit", "valid");
+        this.verifications = verifyTimer(meterRegistry, "miss", "valid");
+        this.rejections = verifyTimer(meterRegistry, "miss", "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String cache, String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("Token parse and signature verification")
+                .tags("cache", cache, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static SecretKey buildSigningKey(String secret) {
         // Ensure the secret is at least 256 bits (32 bytes) for HS256
         byte[] keyBytes = secret.getBytes();
         if (keyBytes.length < 32) {
@@ -32,6 +67,35 @@ public class JwtUtil {
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    /**
+     * Verifies the token's signature and expiry once and returns its claims. Tokens verified
+     * recently are served from a bounded cache until they expire, skipping the HMAC check.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims verify(String token) {
+        long start = System.nanoTime();
+        String cacheKey = hash(token);
+        Claims cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            rejections.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(cacheKey, claims, claims.getExpiration().getTime());
+        }
+        verifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -41,20 +105,7 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claimsResolver.apply(verify(token));
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -72,12 +123,25 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isValidFor(verify(token), userDetails);
+    }
+
+    public boolean isValidFor(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(new Date());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
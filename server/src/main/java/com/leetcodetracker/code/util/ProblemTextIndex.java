@@ -0,0 +1,312 @@
+package com.leetcodetracker.code.util;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over problem names and comments. Text is split into lower-cased words
+ * with accents stripped (words mixing letters and digits are also indexed by their parts); a
+ * document matches a query when every query word matches one of its words exactly, as a prefix,
+ * or within one edit (two for words of eight letters or more), found through a trigram index over
+ * the distinct words. Exact beats prefix beats typo, and a match in
+ * the name counts twice as much as one in the comment.
+ * <p>
+ * Not thread-safe: callers serialise writes against searches.
+ */
+public class ProblemTextIndex {
+
+    private static final int NAME = 1;
+    private static final int COMMENT = 2;
+    private static final float NAME_WEIGHT = 2.0f;
+    private static final float COMMENT_WEIGHT = 1.0f;
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.8;
+    private static final double TYPO = 0.6;
+    // Bounds the work for one- or two-letter prefixes that expand to much of the vocabulary
+    private static final int MAX_PREFIX_TERMS = 512;
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern LETTER_DIGIT_BOUNDARY = Pattern.compile("(?<=\\p{L})(?=\\p{N})|(?<=\\p{N})(?=\\p{L})");
+
+    private record Document(UUID id, String name, String[] terms) {
+    }
+
+    private record Hit(int ordinal, float score, String name) {
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparing(hit -> -hit.name().length())
+            .thenComparing(Hit::name, Comparator.reverseOrder());
+
+    /** Documents containing one term, as parallel arrays of document ordinals and field bits. */
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private byte[] fields = new byte[4];
+        private int size;
+
+        void add(int document, int fieldBits) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            documents[size] = document;
+            fields[size] = (byte) fieldBits;
+            size++;
+        }
+
+        void remove(int document) {
+            for (int i = 0; i < size; i++) {
+                if (documents[i] == document) {
+                    size--;
+                    documents[i] = documents[size];
+                    fields[i] = fields[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    // Documents are addressed by dense ordinals so a search can score into plain arrays
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final NavigableSet<String> vocabulary = new TreeSet<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    public void put(UUID id, String name, String comment) {
+        remove(id);
+        Map<String, Integer> terms = new HashMap<>();
+        for (String term : tokenize(name)) {
+            terms.merge(term, NAME, (a, b) -> a | b);
+        }
+        for (String term : tokenize(comment)) {
+            terms.merge(term, COMMENT, (a, b) -> a | b);
+        }
+
+        Document document = new Document(id, name != null ? name : "", terms.keySet().toArray(new String[0]));
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            ordinal = documents.size();
+            documents.add(document);
+        } else {
+            documents.set(ordinal, document);
+        }
+        ordinals.put(id, ordinal);
+        int added = ordinal;
+        terms.forEach((term, fieldBits) -> postings.computeIfAbsent(term, this::addToVocabulary).add(added, fieldBits));
+    }
+
+    public void remove(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        for (String term : documents.get(ordinal).terms()) {
+            Postings docs = postings.get(term);
+            docs.remove(ordinal);
+            if (docs.size == 0) {
+                postings.remove(term);
+                removeFromVocabulary(term);
+            }
+        }
+        documents.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Returns the ids of the best {@code limit} matches, best first.
+     */
+    public List<UUID> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        int capacity = documents.size();
+        float[] totals = new float[capacity];
+        // How many query words each document has matched so far; only full matches survive
+        int[] matched = new int[capacity];
+        float[] termScores = new float[capacity];
+        int[] touched = new int[capacity];
+        int round = 0;
+        int survivors = 0;
+        for (String queryTerm : queryTerms) {
+            int touchedCount = 0;
+            for (Map.Entry<String, Double> match : matchTerms(queryTerm).entrySet()) {
+                Postings docs = postings.get(match.getKey());
+                float weight = match.getValue().floatValue();
+                for (int i = 0; i < docs.size; i++) {
+                    int document = docs.documents[i];
+                    if (matched[document] != round) {
+                        continue;
+                    }
+                    float score = weight * ((docs.fields[i] & NAME) != 0 ? NAME_WEIGHT : COMMENT_WEIGHT);
+                    if (termScores[document] == 0) {
+                        touched[touchedCount++] = document;
+                    }
+                    termScores[document] = Math.max(termScores[document], score);
+                }
+            }
+            for (int i = 0; i < touchedCount; i++) {
+                int document = touched[i];
+                matched[document]++;
+                totals[document] += termScores[document];
+                termScores[document] = 0;
+            }
+            round++;
+            survivors = touchedCount;
+            if (survivors == 0) {
+                return List.of();
+            }
+        }
+
+        // The last round touched exactly the documents that matched every word. Keep only the best
+        // `limit` of them rather than sorting every candidate
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING);
+        for (int i = 0; i < survivors; i++) {
+            int document = touched[i];
+            Hit hit = new Hit(document, totals[document], documents.get(document).name());
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (RANKING.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked.stream().map(hit -> documents.get(hit.ordinal()).id()).toList();
+    }
+
+    private Map<String, Double> matchTerms(String queryTerm) {
+        Map<String, Double> matches = new LinkedHashMap<>();
+        if (postings.containsKey(queryTerm)) {
+            matches.put(queryTerm, EXACT);
+        }
+        for (String term : vocabulary.subSet(queryTerm, false, queryTerm + Character.MAX_VALUE, false)) {
+            if (matches.size() >= MAX_PREFIX_TERMS) {
+                break;
+            }
+            matches.put(term, PREFIX);
+        }
+        if (queryTerm.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = queryTerm.length() >= 8 ? 2 : 1;
+            Set<String> candidates = new HashSet<>();
+            for (String trigram : trigrams(queryTerm)) {
+                candidates.addAll(termsByTrigram.getOrDefault(trigram, Set.of()));
+            }
+            for (String term : candidates) {
+                if (!matches.containsKey(term) && Math.abs(term.length() - queryTerm.length()) <= maxEdits) {
+                    int edits = editDistance(queryTerm, term, maxEdits);
+                    if (edits <= maxEdits) {
+                        matches.put(term, TYPO / edits);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private Postings addToVocabulary(String term) {
+        vocabulary.add(term);
+        for (String trigram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+        }
+        return new Postings();
+    }
+
+    private void removeFromVocabulary(String term) {
+        vocabulary.remove(term);
+        for (String trigram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            terms.remove(term);
+            if (terms.isEmpty()) {
+                termsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+                // "3sum" is also found by "sum"
+                String[] parts = LETTER_DIGIT_BOUNDARY.split(token);
+                if (parts.length > 1) {
+                    tokens.addAll(List.of(parts));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> trigrams(String term) {
+        String padded = " " + term + " ";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Optimal string alignment distance (insertions, deletions, substitutions and adjacent
+     * transpositions), giving up with {@code max + 1} once every alignment needs more than {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+}
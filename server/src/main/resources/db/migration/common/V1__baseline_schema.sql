@@ -0,0 +1,30 @@
+-- Schema as Hibernate's ddl-auto=update left it before migrations were introduced. Databases created
+-- that way are baselined at this version (spring.flyway.baseline-on-migrate) and start from V2.
+
+create table users (
+    user_id uuid not null,
+    username varchar(255) not null unique,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('USER', 'ADMIN')),
+    enabled boolean not null,
+    account_non_expired boolean not null,
+    account_non_locked boolean not null,
+    credentials_non_expired boolean not null,
+    primary key (user_id)
+);
+
+create table problem (
+    problem_id uuid not null,
+    user_id uuid not null,
+    problem_name varchar(255),
+    comment varchar(255),
+    link varchar(255),
+    time_posted timestamp(6),
+    done_time timestamp(6),
+    status varchar(255) check (status in ('TODO', 'DOING', 'DONE')),
+    level varchar(255) check (level in ('EASY', 'MEDIUM', 'HARD')),
+    primary key (problem_id)
+);
+
+alter table if exists problem add constraint FK3s5lly6y7nwj0ov04xr5erxio foreign key (user_id) references users;
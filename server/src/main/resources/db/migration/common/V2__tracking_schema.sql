@@ -0,0 +1,32 @@
+-- Added while ddl-auto=update still managed the schema, so a baselined database may already have any
+-- of it; every statement leaves an existing object alone.
+
+-- Token revocation (User.credentialVersion)
+alter table users add column if not exists credential_version integer default 0 not null;
+
+-- Changes-since feed: last write per problem and deleted problems
+alter table problem add column if not exists updated_at timestamp(6);
+
+create table if not exists problem_tombstone (
+    problem_id uuid not null,
+    user_id uuid not null,
+    deleted_at timestamp(6) not null,
+    primary key (problem_id)
+);
+
+-- Per-user status counters (UserProgress)
+create table if not exists user_progress (
+    user_id uuid not null,
+    total bigint not null,
+    todo bigint not null,
+    doing bigint not null,
+    done bigint not null,
+    primary key (user_id)
+);
+
+create index if not exists idx_problem_user_status_posted on problem (user_id, status, time_posted);
+create index if not exists idx_problem_user_posted on problem (user_id, time_posted);
+create index if not exists idx_problem_user_done on problem (user_id, done_time);
+create index if not exists idx_problem_user_updated on problem (user_id, updated_at);
+create index if not exists idx_tombstone_user_deleted on problem_tombstone (user_id, deleted_at);
+create index if not exists idx_tombstone_deleted on problem_tombstone (deleted_at);
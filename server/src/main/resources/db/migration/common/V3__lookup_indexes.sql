@@ -0,0 +1,5 @@
+-- Global per-status counts for the admin dashboard (countByStatus)
+create index if not exists idx_problem_status on problem (status);
+
+-- Admin listings and counts by role (findByRole, countByRole, findByUserRole)
+create index if not exists idx_users_role on users (role);
@@ -0,0 +1,2 @@
+-- Optimistic locking for problem edits (Problem.version)
+alter table problem add column if not exists version bigint default 0 not null;
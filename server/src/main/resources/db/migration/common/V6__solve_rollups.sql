@@ -0,0 +1,16 @@
+-- Finished problems per user and day (solves per day/week, streaks)
+create table if not exists solve_day (
+    user_id uuid not null,
+    solve_date date not null,
+    solved bigint not null,
+    primary key (user_id, solve_date)
+);
+
+-- Finished problems per user, level and time-to-DONE bucket
+create table if not exists solve_time_bucket (
+    user_id uuid not null,
+    level varchar(255) not null check (level in ('EASY', 'MEDIUM', 'HARD')),
+    bucket integer not null,
+    solved bigint not null,
+    primary key (user_id, level, bucket)
+);
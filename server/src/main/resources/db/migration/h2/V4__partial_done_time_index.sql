@@ -0,0 +1 @@
+-- H2 has no partial indexes; the full (user_id, done_time) index from V2 serves the same queries.
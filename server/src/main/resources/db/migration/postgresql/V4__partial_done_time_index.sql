@@ -0,0 +1,4 @@
+-- Only finished problems carry a done_time, and the DONE_TIME sort filters on it being set, so the
+-- index leaves out the open problems that make up most of a backlog.
+drop index if exists idx_problem_user_done;
+create index idx_problem_user_done on problem (user_id, done_time) where done_time is not null;
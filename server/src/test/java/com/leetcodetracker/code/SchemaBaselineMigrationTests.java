@@ -0,0 +1,84 @@
+package com.leetcodetracker.code;
+
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.service.ProblemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts against a database that {@code ddl-auto=update} created part-way through the series: the
+ * pre-migration schema plus some of the later columns and indexes. Flyway baselines it at V1, the
+ * later scripts skip what is already there, Hibernate's validation accepts the result and the
+ * application can write to it.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class SchemaBaselineMigrationTests {
+
+    private static final String URL = "jdbc:h2:mem:PreMigrationDB;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private ProblemService problemService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DynamicPropertySource
+    static void preMigrationDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("runscript from 'classpath:db/migration/common/V1__baseline_schema.sql'");
+            statement.execute("alter table users add column credential_version integer default 0 not null");
+            statement.execute("create index idx_problem_user_posted on problem (user_id, time_posted)");
+            statement.execute("insert into users (user_id, username, email, password, role, enabled,"
+                    + " account_non_expired, account_non_locked, credentials_non_expired, credential_version)"
+                    + " values (random_uuid(), 'existing', 'existing@example.com', 'secret', 'USER',"
+                    + " true, true, true, true, 3)");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void existingDatabaseIsBaselinedAndMigrated() {
+        assertThat(jdbcTemplate.queryForList(
+                "select \"version\" || ':' || \"type\" from \"flyway_schema_history\""
+                        + " where \"version\" is not null order by \"installed_rank\"", String.class))
+                .containsExactly("1:BASELINE", "2:SQL", "3:SQL", "4:SQL", "5:SQL", "6:SQL");
+        assertThat(jdbcTemplate.queryForObject(
+                "select credential_version from users where username = 'existing'", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where index_name = 'IDX_PROBLEM_USER_POSTED'",
+                Integer.class)).isEqualTo(1);
+
+        // Only after the checks above, which read the rows seeded before startup
+        fixtures.reset();
+        fixtures.createSignedInUser("migrated", UserRole.USER);
+        problemService.createProblem(Problem.builder()
+                .problemName("Two Sum").status(ProblemStatus.DONE).level(ProblemLevel.EASY).build());
+        assertThat(problemService.listProblems()).hasSize(1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.leetcodetracker.code;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Shared test setup: an empty database, users with the password {@code secret}, and a signed-in
+ * caller. Picked up by component scanning, so any {@code @SpringBootTest} can autowire it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    public static final String PASSWORD = "secret";
+
+    // Children before parents
+    private static final List<String> TABLES = List.of(
+            "solve_day", "solve_time_bucket", "problem_tombstone", "problem", "user_progress", "users");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Deletes every row the application writes.
+     */
+    public void reset() {
+        TABLES.forEach(table -> jdbcTemplate.update("delete from " + table));
+    }
+
+    public User createUser(String username, UserRole role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(role)
+                .build());
+    }
+
+    public User createSignedInUser(String username, UserRole role) {
+        User user = createUser(username, role);
+        signIn(user);
+        return user;
+    }
+
+    public static void signIn(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    /**
+     * Signs up through the API and returns headers carrying the new user's token.
+     */
+    public static HttpHeaders signUp(TestRestTemplate restTemplate, String username) {
+        restTemplate.postForEntity("/api/v1/auth/signup",
+                Map.of("username", username, "email", username + "@example.com", "password", PASSWORD), Map.class);
+        Map<?, ?> login = restTemplate.postForObject("/api/v1/auth/login",
+                Map.of("username", username, "password", PASSWORD), Map.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth((String) login.get("token"));
+        return headers;
+    }
+
+    /**
+     * Waits until another session waits for a row lock held by the caller's transaction.
+     */
+    public void awaitBlockedSession() {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.sessions where blocker_id is not null", Integer.class) == 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.leetcodetracker.code;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+class VirtualThreadModeTests {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+    }
+
+    @Test
+    void asyncWorkRunsOnVirtualThreads() throws Exception {
+        assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+
+    @Test
+    void servesRequests() {
+        HttpHeaders authHeaders = TestFixtures.signUp(restTemplate, "virtual");
+
+        assertThat(restTemplate.exchange("/api/v1/problems", HttpMethod.GET, new HttpEntity<>(authHeaders), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,48 @@
+package com.leetcodetracker.code.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CorsConfigurationTests {
+
+    private static final String UI_ORIGIN = "http://localhost:3000";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void preflightAllowsPatchFromTheUi() {
+        ResponseEntity<Void> response = preflight(HttpMethod.PATCH);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getAccessControlAllowOrigin()).isEqualTo(UI_ORIGIN);
+        assertThat(response.getHeaders().getAccessControlAllowMethods()).contains(HttpMethod.PATCH);
+    }
+
+    @Test
+    void preflightRejectsUnlistedMethod() {
+        assertThat(preflight(HttpMethod.TRACE).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private ResponseEntity<Void> preflight(HttpMethod method) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setOrigin(UI_ORIGIN);
+        headers.setAccessControlRequestMethod(method);
+        headers.setAccessControlRequestHeaders(List.of(HttpHeaders.AUTHORIZATION, HttpHeaders.CONTENT_TYPE));
+        return restTemplate.exchange("/api/v1/problems/" + UUID.randomUUID(), HttpMethod.OPTIONS,
+                new HttpEntity<>(headers), Void.class);
+    }
+}
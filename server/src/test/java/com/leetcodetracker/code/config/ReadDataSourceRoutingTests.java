@@ -0,0 +1,63 @@
+package com.leetcodetracker.code.config;
+
+import com.leetcodetracker.code.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The "replica" is the same in-memory database reached through a second pool, so reads find the schema
+@SpringBootTest(properties = "datasource.read.url=${spring.datasource.url}")
+class ReadDataSourceRoutingTests {
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource readDataSource;
+    @Autowired
+    @Qualifier("writeDataSource")
+    private HikariDataSource writeDataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void readOnlyTransactionsUseReadPool() {
+        inTransaction(true, () -> {
+            userRepository.count();
+            assertThat(readDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(writeDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        });
+    }
+
+    @Test
+    void readWriteTransactionsUseWritePool() {
+        inTransaction(false, () -> {
+            userRepository.count();
+            assertThat(writeDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void primaryReadsStayOnWritePool() {
+        PrimaryReads.call(() -> {
+            inTransaction(true, () -> {
+                userRepository.count();
+                assertThat(writeDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+                assertThat(readDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+            });
+            return null;
+        });
+    }
+
+    private void inTransaction(boolean readOnly, Runnable work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> work.run());
+    }
+}
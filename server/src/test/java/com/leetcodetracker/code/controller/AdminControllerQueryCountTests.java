@@ -0,0 +1,126 @@
+package com.leetcodetracker.code.controller;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.SystemStatsResponse;
+import com.leetcodetracker.code.dto.UserProgressResponse;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.UserRepository;
+import com.leetcodetracker.code.service.UserProgressService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@WithMockUser(roles = "ADMIN")
+class AdminControllerQueryCountTests {
+
+    @Autowired
+    private AdminController adminController;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllUsersStatementCountDoesNotGrowWithUserCount() {
+        seedUsers(0, 3);
+        long fewUsers = countStatements();
+
+        seedUsers(3, 30);
+        long manyUsers = countStatements();
+
+        assertThat(fewUsers).isEqualTo(2);
+        assertThat(manyUsers).isEqualTo(fewUsers);
+    }
+
+    @Test
+    void getAllUsersReportsPerStatusProgress() {
+        seedUsers(0, 1);
+
+        List<UserProgressResponse> users = adminController.getAllUsers(freshRequest()).getBody();
+
+        assertThat(users).hasSize(1);
+        assertThat(users.get(0).progress().total()).isEqualTo(3);
+        assertThat(users.get(0).progress().todo()).isEqualTo(1);
+        assertThat(users.get(0).progress().doing()).isEqualTo(1);
+        assertThat(users.get(0).progress().done()).isEqualTo(1);
+    }
+
+    @Test
+    void getSystemStatsSumsProgressCounters() {
+        seedUsers(0, 4);
+
+        SystemStatsResponse stats = adminController.getSystemStats(freshRequest()).getBody();
+
+        assertThat(stats.totalUsers()).isEqualTo(4);
+        assertThat(stats.totalProblems()).isEqualTo(12);
+        assertThat(stats.problemStats()).isEqualTo(new SystemStatsResponse.StatusTotals(4, 4, 4));
+    }
+
+    private static ServletWebRequest freshRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private long countStatements() {
+        statistics.clear();
+        adminController.getAllUsers(freshRequest());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedUsers(int from, int to) {
+        List<Problem> problems = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("secret")
+                    .role(UserRole.USER)
+                    .build());
+            for (ProblemStatus status : ProblemStatus.values()) {
+                problems.add(Problem.builder()
+                        .problemName("Problem " + i + " " + status)
+                        .status(status)
+                        .level(ProblemLevel.EASY)
+                        .timePosted(new Date())
+                        .user(user)
+                        .build());
+            }
+        }
+        problemRepository.saveAll(problems);
+        // Rows written straight through the repository bypass the counters until reconciled
+        userProgressService.reconcile();
+    }
+}
@@ -0,0 +1,80 @@
+package com.leetcodetracker.code.controller;
+
+import com.leetcodetracker.code.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ConditionalGetTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private HttpHeaders authHeaders;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        authHeaders = TestFixtures.signUp(restTemplate, "poller");
+    }
+
+    @Test
+    void unchangedListIsAnsweredWithoutQueries() {
+        ResponseEntity<String> first = listProblems(null);
+        String eTag = first.getHeaders().getETag();
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(eTag).startsWith("W/");
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> second = listProblems(eTag);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void writesChangeTheETag() {
+        String eTag = listProblems(null).getHeaders().getETag();
+
+        Map<?, ?> created = restTemplate.exchange("/api/v1/problems", HttpMethod.POST, new HttpEntity<>(
+                Map.of("problemName", "Two Sum", "status", "TODO", "level", "EASY"), authHeaders), Map.class).getBody();
+        restTemplate.exchange("/api/v1/problems/" + created.get("problemId"), HttpMethod.DELETE,
+                new HttpEntity<>(authHeaders), String.class);
+
+        // Same (empty) content, but every committed write invalidates cached copies
+        ResponseEntity<String> afterWrite = listProblems(eTag);
+        assertThat(afterWrite.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(afterWrite.getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
+    private ResponseEntity<String> listProblems(String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(authHeaders);
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("/api/v1/problems", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
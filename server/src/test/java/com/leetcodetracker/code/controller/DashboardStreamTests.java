@@ -0,0 +1,118 @@
+package com.leetcodetracker.code.controller;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.service.DashboardStreamService;
+import com.leetcodetracker.code.service.UserProgressService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DashboardStreamTests {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        fixtures.createUser("watcher", UserRole.ADMIN);
+        Map<?, ?> login = restTemplate.postForObject("/api/v1/auth/login",
+                Map.of("username", "watcher", "password", "secret"), Map.class);
+        adminToken = (String) login.get("token");
+    }
+
+    @Test
+    void burstOfWritesArrivesAsOneCoalescedDelta() throws Exception {
+        BlockingQueue<String> dataLines = new LinkedBlockingQueue<>();
+        HttpResponse<Stream<String>> response = openStream(dataLines);
+        try {
+            UUID userId = fixtures.createUser("busy", UserRole.USER).getUserId();
+            for (int i = 0; i < 5; i++) {
+                transactionTemplate.executeWithoutResult(status ->
+                        userProgressService.apply(userId, new ProgressCounts(2, 1, 0, 1)));
+            }
+
+            String first = dataLines.poll(5, TimeUnit.SECONDS);
+            assertThat(first).contains(userId.toString()).contains("\"total\":10").contains("\"done\":5");
+            assertThat(dataLines.poll(600, TimeUnit.MILLISECONDS)).isNull();
+            assertThat(dashboardStreamService.subscriberCount()).isEqualTo(1);
+        } finally {
+            response.body().close();
+        }
+    }
+
+    @Test
+    void deltaListsOnlyUserAccountsLikeTheRestEndpoints() throws Exception {
+        BlockingQueue<String> dataLines = new LinkedBlockingQueue<>();
+        HttpResponse<Stream<String>> response = openStream(dataLines);
+        try {
+            User admin = fixtures.createUser("other-admin", UserRole.ADMIN);
+            User user = fixtures.createUser("newcomer", UserRole.USER);
+            transactionTemplate.executeWithoutResult(status -> {
+                userProgressService.initialize(admin);
+                userProgressService.initialize(user);
+                userProgressService.apply(admin.getUserId(), new ProgressCounts(1, 1, 0, 0));
+                userProgressService.apply(user.getUserId(), new ProgressCounts(2, 0, 0, 2));
+            });
+
+            String delta = dataLines.poll(5, TimeUnit.SECONDS);
+            assertThat(delta)
+                    .contains("\"users\":{\"" + user.getUserId() + "\"")
+                    .doesNotContain(admin.getUserId().toString())
+                    .doesNotContain("other-admin")
+                    .contains("\"totals\":{\"total\":3,\"todo\":1,\"doing\":0,\"done\":2,")
+                    .contains("\"username\":\"newcomer\"")
+                    .contains("\"email\":\"newcomer@example.com\"");
+        } finally {
+            response.body().close();
+        }
+    }
+
+    private HttpResponse<Stream<String>> openStream(BlockingQueue<String> dataLines) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/admin/dashboard/stream"))
+                .header("Authorization", "Bearer " + adminToken)
+                .build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        Thread reader = new Thread(() -> response.body()
+                .filter(line -> line.startsWith("data:"))
+                .forEach(dataLines::add));
+        reader.setDaemon(true);
+        reader.start();
+        return response;
+    }
+}
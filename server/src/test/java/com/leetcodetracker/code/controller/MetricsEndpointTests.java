@@ -0,0 +1,80 @@
+package com.leetcodetracker.code.controller;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability // Boot turns metric exporters off in tests unless asked
+class MetricsEndpointTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+    @LocalManagementPort
+    private int managementPort;
+
+    private HttpHeaders authHeaders;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        authHeaders = TestFixtures.signUp(restTemplate, "metered");
+    }
+
+    @Test
+    void prometheusScrapeCoversEndpointsRepositoriesExportsAndTokens() {
+        restTemplate.exchange("/api/v1/problems", HttpMethod.POST, new HttpEntity<>(
+                Map.of("problemName", "Two Sum", "status", "TODO", "level", "EASY"), authHeaders), String.class);
+        restTemplate.exchange("/api/v1/problems/export/excel", HttpMethod.GET,
+                new HttpEntity<>(authHeaders), byte[].class);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(management("/actuator/prometheus"), String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("http_server_requests_seconds_count{")
+                .contains("uri=\"/api/v1/problems/export/excel\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("repository=\"ProblemRepository\"")
+                .contains("problems_export_seconds_count{")
+                .contains("problems_export_bytes_sum{")
+                .contains("jwt_verify_seconds_count{");
+    }
+
+    @Test
+    void otherActuatorEndpointsRequireAdmin() {
+        ResponseEntity<String> metrics = restTemplate.exchange(management("/actuator/metrics"), HttpMethod.GET,
+                new HttpEntity<>(authHeaders), String.class);
+
+        assertThat(metrics.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void applicationPortDoesNotServeActuator() {
+        ResponseEntity<String> scrape = restTemplate.exchange("/actuator/prometheus", HttpMethod.GET,
+                new HttpEntity<>(authHeaders), String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private String management(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+}
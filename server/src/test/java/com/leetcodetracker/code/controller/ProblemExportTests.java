@@ -0,0 +1,82 @@
+package com.leetcodetracker.code.controller;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProblemExportTests {
+
+    private static final int PROBLEM_COUNT = 250;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private HttpHeaders authHeaders;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        authHeaders = TestFixtures.signUp(restTemplate, "exporter");
+
+        List<Map<String, Object>> problems = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            problems.add(Map.of(
+                    "problemName", "Problem " + i,
+                    "comment", "comment " + i,
+                    "link", "https://leetcode.com/problems/" + i,
+                    "status", ProblemStatus.values()[i % 3].name(),
+                    "level", ProblemLevel.values()[i % 3].name()));
+        }
+        for (Map<String, Object> problem : problems) {
+            restTemplate.exchange("/api/v1/problems", HttpMethod.POST, new HttpEntity<>(problem, authHeaders), Map.class);
+        }
+    }
+
+    @Test
+    void streamsExcelExportWithEveryRow() throws Exception {
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                "/api/v1/problems/export/excel", HttpMethod.GET, new HttpEntity<>(authHeaders), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(response.getBody()))) {
+            Sheet sheet = workbook.getSheet("Problems");
+            assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("Name");
+            assertThat(sheet.getLastRowNum()).isEqualTo(PROBLEM_COUNT);
+        }
+    }
+
+    @Test
+    void streamsPdfExport() throws Exception {
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                "/api/v1/problems/export/pdf", HttpMethod.GET, new HttpEntity<>(authHeaders), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(response.getBody())))) {
+            assertThat(pdf.getNumberOfPages()).isGreaterThan(1);
+        }
+    }
+}
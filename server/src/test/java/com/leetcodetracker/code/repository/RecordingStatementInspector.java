@@ -0,0 +1,32 @@
+package com.leetcodetracker.code.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps every SQL statement Hibernate prepares so tests can look at what was sent. Enabled with
+ * {@link #PROPERTY}; Hibernate instantiates it, hence the static list.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.leetcodetracker.code.repository.RecordingStatementInspector";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.leetcodetracker.code.repository;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each repository query, captures the SQL Hibernate sent and checks the database's plan for it
+ * reads through the expected index rather than scanning the table. Plans come from the H2 test
+ * database, so this guards the common migrations; PostgreSQL-only indexes are not covered.
+ */
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+class RepositoryIndexUsageTests {
+
+    private static final String USER_ID_SEEK = "/\\* PUBLIC\\.\\w+: USER_ID = \\?1";
+
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private ProblemTombstoneRepository tombstoneRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createUser("planner", UserRole.USER);
+        List<Problem> problems = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            problems.add(Problem.builder()
+                    .problemName("Problem " + i)
+                    .status(ProblemStatus.values()[i % 3])
+                    .level(ProblemLevel.EASY)
+                    .timePosted(new Date())
+                    .user(user)
+                    .build());
+        }
+        problem = problemRepository.saveAll(problems).get(0);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void problemQueriesFilteringByUserUseUserIndexes() {
+        // Any index leading with user_id will do; H2 also indexes the foreign key itself
+        assertThat(planOf(() -> problemRepository.findByUser(user))).containsPattern(USER_ID_SEEK);
+        assertThat(planOf(() -> problemRepository.findResponsesByUserId(user.getUserId())))
+                .containsPattern(USER_ID_SEEK);
+        assertThat(planOf(() -> problemRepository.countStatusesForUser(user.getUserId()))).containsPattern(USER_ID_SEEK);
+        assertThat(planOf(() -> problemRepository.findByUserAndStatus(user, ProblemStatus.DONE)))
+                .contains("IDX_PROBLEM_USER_STATUS_POSTED");
+        assertThat(planOf(() -> problemRepository.countByUserAndStatus(user, ProblemStatus.DONE)))
+                .contains("IDX_PROBLEM_USER_STATUS_POSTED");
+        assertThat(planOf(() -> problemRepository.findResponsesUpdatedSince(user, new Date(0))))
+                .contains("IDX_PROBLEM_USER_UPDATED");
+    }
+
+    @Test
+    void singleProblemLookupUsesPrimaryKey() {
+        assertThat(planOf(() -> problemRepository.findByProblemIdAndUser(problem.getProblemId(), user)))
+                .contains("PRIMARY_KEY");
+    }
+
+    @Test
+    void globalCountsUseTheirIndexes() {
+        assertThat(planOf(() -> problemRepository.countByStatus(ProblemStatus.DONE))).contains("IDX_PROBLEM_STATUS");
+        assertThat(planOf(() -> userRepository.countByRole(UserRole.ADMIN))).contains("IDX_USERS_ROLE");
+    }
+
+    @Test
+    void tombstoneFeedUsesUserIndex() {
+        assertThat(planOf(() -> tombstoneRepository.findDeletedProblemIds(UUID.randomUUID(), new Date(0))))
+                .contains("IDX_TOMBSTONE_USER_DELETED");
+    }
+
+    /**
+     * Plan of the last statement the call issued. H2 reports the access path of each table as a
+     * comment, either an index with its conditions or {@code tableScan}.
+     */
+    private String planOf(Runnable call) {
+        RecordingStatementInspector.clear();
+        call.run();
+        List<String> statements = RecordingStatementInspector.statements();
+        String sql = statements.get(statements.size() - 1);
+        Object[] nulls = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, nulls);
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+        return plan;
+    }
+}
@@ -0,0 +1,123 @@
+package com.leetcodetracker.code.security;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PasswordHashingTests {
+
+    private static final Map<String, String> CREDENTIALS = Map.of("username", "hasher", "password", "secret");
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {
+    };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordHashingPool passwordHashingPool;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        restTemplate.postForEntity("/api/v1/auth/signup",
+                Map.of("username", "hasher", "email", "hasher@example.com", "password", "secret"), Map.class);
+    }
+
+    @Test
+    void newHashesCarryEncoderId() {
+        assertThat(storedHash()).startsWith("{bcrypt}$2a$04$");
+    }
+
+    @Test
+    void legacyHashIsUpgradedOnLogin() {
+        User user = userRepository.findByUsername("hasher").orElseThrow();
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        userRepository.save(user);
+
+        assertThat(login().getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(storedHash()).startsWith("{bcrypt}");
+        assertThat(login().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void wrongPasswordIsBadRequest() {
+        ResponseEntity<Map<String, Object>> response = login(Map.of("username", "hasher", "password", "wrong"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("error", "Invalid username or password");
+    }
+
+    @Test
+    void loginIsRejectedFastWhenHashingPoolIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+        try {
+            // Park both hashing threads (test properties use 2), then fill the queue behind them
+            for (int i = 0; i < 2; i++) {
+                passwordHashingPool.submit(() -> {
+                    running.countDown();
+                    awaitQuietly(release);
+                    return null;
+                });
+            }
+            awaitQuietly(running);
+            while (true) {
+                try {
+                    passwordHashingPool.submit(() -> null);
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+            }
+
+            ResponseEntity<Map<String, Object>> response = login();
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> login() {
+        return login(CREDENTIALS);
+    }
+
+    private ResponseEntity<Map<String, Object>> login(Map<String, String> credentials) {
+        return restTemplate.exchange("/api/v1/auth/login", HttpMethod.POST, new HttpEntity<>(credentials), JSON_OBJECT);
+    }
+
+    private String storedHash() {
+        return userRepository.findByUsername("hasher").orElseThrow().getPassword();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.leetcodetracker.code.security;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StatelessAuthenticationTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private HttpHeaders authHeaders;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        authHeaders = TestFixtures.signUp(restTemplate, "stateless");
+    }
+
+    @Test
+    void steadyStateRequestsDoNotQueryUsersTable() {
+        assertThat(listProblems().getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            assertThat(listProblems().getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        // Only the problem listing itself touches the database
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void bumpingCredentialVersionRevokesIssuedTokens() {
+        assertThat(listProblems().getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        User user = userRepository.findByUsername("stateless").orElseThrow();
+        user.setCredentialVersion(user.getCredentialVersion() + 1);
+        userRepository.save(user);
+
+        assertThat(listProblems().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void principalReloadedBeforeCommitIsEvictedOnCommit() {
+        User user = userRepository.findByUsername("stateless").orElseThrow();
+        int issuedVersion = user.getCredentialVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User changed = userRepository.findById(user.getUserId()).orElseThrow();
+            changed.setCredentialVersion(issuedVersion + 1);
+            userRepository.flush();
+            // A concurrent request between flush and commit still reads, and caches, the old row
+            assertThat(CompletableFuture.supplyAsync(() -> userPrincipalCache.findPrincipal(user.getUserId(), issuedVersion))
+                    .join()).isPresent();
+        });
+
+        assertThat(userPrincipalCache.findPrincipal(user.getUserId(), issuedVersion)).isEmpty();
+    }
+
+    private ResponseEntity<String> listProblems() {
+        return restTemplate.exchange("/api/v1/problems", HttpMethod.GET, new HttpEntity<>(authHeaders), String.class);
+    }
+}
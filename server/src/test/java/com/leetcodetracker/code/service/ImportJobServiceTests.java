@@ -0,0 +1,119 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ImportJobState;
+import com.leetcodetracker.code.dto.ImportJobStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImportJobServiceTests {
+
+    @Autowired
+    private ImportJobService importJobService;
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        owner = fixtures.createUser("importer", UserRole.ADMIN);
+    }
+
+    @Test
+    void runsImportInBackgroundAndReportsProgress() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 750; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"problemName\":\"Problem ").append(i).append("\",\"status\":\"DONE\",\"level\":\"MEDIUM\"}");
+        }
+        json.append(",{\"problemName\":\"Broken\",\"status\":\"TODO\"}]");
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "problems.json", "application/json", json.toString().getBytes(StandardCharsets.UTF_8));
+
+        ImportJobStatus submitted = importJobService.submit(file, owner);
+        ImportJobStatus finished = awaitCompletion(submitted.jobId());
+
+        assertThat(finished.state()).isEqualTo(ImportJobState.COMPLETED);
+        assertThat(finished.processed()).isEqualTo(751);
+        assertThat(finished.imported()).isEqualTo(750);
+        assertThat(finished.failed()).isEqualTo(1);
+        assertThat(finished.rowsPerSecond()).isPositive();
+        assertThat(problemRepository.countByUser(owner)).isEqualTo(750);
+    }
+
+    @Test
+    void jobsAreOnlyVisibleToTheirOwner() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "problems.json", "application/json",
+                "[{\"problemName\":\"Two Sum\",\"status\":\"TODO\",\"level\":\"EASY\"}]".getBytes(StandardCharsets.UTF_8));
+        ImportJobStatus submitted = importJobService.submit(file, owner);
+
+        User stranger = User.builder().userId(UUID.randomUUID()).username("stranger").role(UserRole.ADMIN).build();
+
+        assertThat(importJobService.getJob(submitted.jobId(), stranger)).isEmpty();
+        assertThat(awaitCompletion(submitted.jobId()).state()).isEqualTo(ImportJobState.COMPLETED);
+    }
+
+    @Test
+    void malformedDocumentFailsTheJob() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "problems.json", "application/json",
+                "[{\"problemName\":\"Two Sum\" \"status\":\"TODO\"}]".getBytes(StandardCharsets.UTF_8));
+
+        ImportJobStatus finished = awaitCompletion(importJobService.submit(file, owner).jobId());
+
+        assertThat(finished.state()).isEqualTo(ImportJobState.FAILED);
+        assertThat(finished.message()).startsWith("Invalid JSON format");
+        assertThat(finished.finishedAt()).isNotNull();
+    }
+
+    @Test
+    void finishedJobsArePurgedWithoutFurtherSubmits() throws Exception {
+        ImportJobService shortRetention = new ImportJobService(problemService, 1, 1, Duration.ZERO, false);
+        try {
+            MockMultipartFile file = new MockMultipartFile("file", "problems.json", "application/json",
+                    "[{\"problemName\":\"Two Sum\",\"status\":\"TODO\",\"level\":\"EASY\"}]".getBytes(StandardCharsets.UTF_8));
+            UUID jobId = shortRetention.submit(file, owner).jobId();
+            assertThat(awaitCompletion(shortRetention, jobId).state()).isEqualTo(ImportJobState.COMPLETED);
+            Thread.sleep(5);
+
+            shortRetention.purgeExpiredJobs();
+
+            assertThat(shortRetention.getJob(jobId, owner)).isEmpty();
+        } finally {
+            shortRetention.shutdown();
+        }
+    }
+
+    private ImportJobStatus awaitCompletion(UUID jobId) throws InterruptedException {
+        return awaitCompletion(importJobService, jobId);
+    }
+
+    private ImportJobStatus awaitCompletion(ImportJobService service, UUID jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ImportJobStatus status = service.getJob(jobId, owner).orElseThrow();
+        while ((status.state() == ImportJobState.QUEUED || status.state() == ImportJobState.RUNNING)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = service.getJob(jobId, owner).orElseThrow();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,90 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProblemSearchServiceTests {
+
+    @Autowired
+    private ProblemSearchService searchService;
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createSignedInUser("searcher", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void indexFollowsWritesAfterFirstSearch() {
+        Problem twoSum = create("Two Sum", "hash map");
+        assertThat(names(searchService.search(user.getUserId(), "sum", 10))).containsExactly("Two Sum");
+
+        create("3Sum Closest", "two pointers");
+        twoSum.setProblemName("Two Sum II");
+        problemService.updateProblem(twoSum.getProblemId(), twoSum);
+        assertThat(names(searchService.search(user.getUserId(), "sum", 10)))
+                .containsExactlyInAnyOrder("Two Sum II", "3Sum Closest");
+
+        problemService.deleteProblem(twoSum.getProblemId());
+        assertThat(names(searchService.search(user.getUserId(), "two", 10))).containsExactly("3Sum Closest");
+    }
+
+    @Test
+    void bulkInsertIsVisibleToNextSearch() {
+        create("Merge Intervals", null);
+        assertThat(searchService.search(user.getUserId(), "interval", 10)).hasSize(1);
+
+        problemService.createProblemsBulk(List.of(Problem.builder()
+                .problemName("Insert Interval").status(ProblemStatus.TODO).level(ProblemLevel.MEDIUM).build()));
+
+        assertThat(names(searchService.search(user.getUserId(), "intreval", 10)))
+                .containsExactlyInAnyOrder("Merge Intervals", "Insert Interval");
+    }
+
+    @Test
+    void rejectsBlankQuery() {
+        assertThatThrownBy(() -> searchService.search(user.getUserId(), "  ", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Problem create(String name, String comment) {
+        return problemService.createProblem(Problem.builder()
+                .problemName(name)
+                .comment(comment)
+                .status(ProblemStatus.TODO)
+                .level(ProblemLevel.EASY)
+                .build());
+    }
+
+    private static List<String> names(List<ProblemResponse> results) {
+        return results.stream().map(ProblemResponse::problemName).toList();
+    }
+}
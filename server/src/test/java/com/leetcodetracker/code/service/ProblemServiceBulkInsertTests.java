@@ -0,0 +1,131 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ImportResult;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProblemServiceBulkInsertTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createUser("bulk", UserRole.ADMIN);
+        userProgressService.initialize(user);
+        TestFixtures.signIn(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bulkCreateInsertsInJdbcBatches() {
+        List<Problem> problems = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            problems.add(Problem.builder()
+                    .problemId(i == 0 ? UUID.randomUUID() : null)
+                    .problemName("Problem " + i)
+                    .status(i % 2 == 0 ? ProblemStatus.DONE : ProblemStatus.TODO)
+                    .level(ProblemLevel.HARD)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        problemService.createProblemsBulk(problems);
+
+        assertThat(statistics.getEntityStatistics(Problem.class.getName()).getInsertCount()).isEqualTo(1_200);
+        // Three chunks of 500 rows, each sent as one prepared batch, plus the progress counter update and
+        // the solve rollups (the user row lock, then an UPDATE and an INSERT for a new row, for the one
+        // day and one bucket)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+        assertThat(problemRepository.countByUser(user)).isEqualTo(1_200);
+        assertThat(problemRepository.countByUserAndStatus(user, ProblemStatus.DONE)).isEqualTo(600);
+    }
+
+    @Test
+    void jsonImportSkipsMalformedRecordsAndKeepsTheRest() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1_100; i++) {
+            json.append("{\"problemName\":\"Problem ").append(i)
+                    .append("\",\"status\":\"TODO\",\"level\":\"EASY\"},");
+        }
+        json.append("{\"problemName\":\"Bad status\",\"status\":\"MAYBE\",\"level\":\"EASY\"},");
+        json.append("{\"status\":\"TODO\",\"level\":\"EASY\"},");
+        json.append("42]");
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "problems.json", "application/json", json.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<ImportResult> progress = new ArrayList<>();
+        ImportResult result = problemService.importProblemsFromJson(file.getInputStream(), user, progress::add);
+
+        assertThat(result.processed()).isEqualTo(1_103);
+        assertThat(result.imported()).isEqualTo(1_100);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(3);
+        // Two full chunks of 500 plus the final report
+        assertThat(progress).hasSize(3);
+        assertThat(problemRepository.countByUser(user)).isEqualTo(1_100);
+    }
+
+    @Test
+    void jsonImportStopsAtSyntaxError() {
+        String json = "[{\"problemName\":\"Fine\",\"status\":\"TODO\",\"level\":\"EASY\"},"
+                + "{\"problemName\":\"Broken\" \"status\":\"TODO\"},"
+                + "{\"problemName\":\"After\",\"status\":\"TODO\",\"level\":\"EASY\"}]";
+
+        assertThatThrownBy(() -> problemService.importProblemsFromJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), user, progress -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid JSON format");
+        assertThat(problemRepository.countByUser(user)).isZero();
+    }
+
+    @Test
+    void jsonImportRejectsDocumentThatIsNotAnArray() {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "problems.json", "application/json", "{\"problemName\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> problemService.importProblemsFromJsonFile(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,248 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.BulkDelete;
+import com.leetcodetracker.code.dto.BulkStatusUpdate;
+import com.leetcodetracker.code.dto.ProblemSyncToken;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.ProblemTombstoneRepository;
+import com.leetcodetracker.code.repository.UserProgressRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProblemServiceBulkWriteTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private ProblemTombstoneRepository tombstoneRepository;
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private List<Problem> todo;
+    private Problem done;
+    private Problem otherUsersProblem;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        User other = fixtures.createUser("other", UserRole.USER);
+        userProgressService.initialize(other);
+        TestFixtures.signIn(other);
+        otherUsersProblem = createProblem("Not yours", ProblemStatus.TODO);
+
+        user = fixtures.createUser("bulk-writer", UserRole.USER);
+        userProgressService.initialize(user);
+        TestFixtures.signIn(user);
+        todo = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            todo.add(createProblem("Problem " + i, ProblemStatus.TODO));
+        }
+        done = createProblem("Finished", ProblemStatus.DONE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statusChangeByIdsStampsDoneTimeAndSkipsOtherUsersAndUnchangedRows() {
+        Date doneTimeBefore = problemRepository.findById(done.getProblemId()).orElseThrow().getDoneTime();
+        List<UUID> ids = List.of(todo.get(0).getProblemId(), todo.get(1).getProblemId(),
+                done.getProblemId(), otherUsersProblem.getProblemId());
+
+        int updated = problemService.updateStatusBulk(new BulkStatusUpdate(ids, null, ProblemStatus.DONE)).affected();
+
+        assertThat(updated).isEqualTo(2);
+        Problem moved = problemRepository.findById(todo.get(0).getProblemId()).orElseThrow();
+        assertThat(moved.getStatus()).isEqualTo(ProblemStatus.DONE);
+        assertThat(moved.getDoneTime()).isNotNull();
+        assertThat(problemRepository.findById(done.getProblemId()).orElseThrow().getDoneTime()).isEqualTo(doneTimeBefore);
+        assertThat(problemRepository.findById(otherUsersProblem.getProblemId()).orElseThrow().getStatus())
+                .isEqualTo(ProblemStatus.TODO);
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(6, 3, 0, 3));
+    }
+
+    @Test
+    void statusChangeByCurrentStatusIsOneUpdateAndShowsInChangesFeed() throws InterruptedException {
+        Thread.sleep(10);
+        String token = new ProblemSyncToken(new Date()).encode();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int updated = problemService.updateStatusBulk(
+                new BulkStatusUpdate(null, ProblemStatus.TODO, ProblemStatus.DOING)).affected();
+
+        assertThat(updated).isEqualTo(5);
+        // The UPDATE plus the progress counter increment, however many rows move
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(problemService.getChangesSince(token).changed()).hasSize(5);
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(6, 0, 5, 1));
+    }
+
+    @Test
+    void overlappingMovesOfTheSameRowsCountThemOnce() throws Exception {
+        List<UUID> ids = todo.stream().map(Problem::getProblemId).toList();
+
+        CompletableFuture<Integer> second = transactionTemplate.execute(status -> {
+            assertThat(problemService.updateStatusBulk(
+                    new BulkStatusUpdate(ids.subList(0, 3), null, ProblemStatus.DONE)).affected()).isEqualTo(3);
+            CompletableFuture<Integer> overlapping = CompletableFuture.supplyAsync(() -> {
+                TestFixtures.signIn(user);
+                try {
+                    return problemService.updateStatusBulk(new BulkStatusUpdate(ids, null, ProblemStatus.DONE)).affected();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            fixtures.awaitBlockedSession();
+            return overlapping;
+        });
+
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(6, 0, 0, 6));
+    }
+
+    @Test
+    void moveFromDoneByStatusUpdatesOnlyTheRowsItRead() {
+        int updated = problemService.updateStatusBulk(
+                new BulkStatusUpdate(null, ProblemStatus.DONE, ProblemStatus.DOING)).affected();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(problemRepository.findById(done.getProblemId()).orElseThrow().getStatus())
+                .isEqualTo(ProblemStatus.DOING);
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(6, 5, 1, 0));
+    }
+
+    @Test
+    void deleteByIdsLeavesTombstonesForSync() throws InterruptedException {
+        Thread.sleep(10);
+        String token = new ProblemSyncToken(new Date()).encode();
+        List<UUID> ids = List.of(todo.get(0).getProblemId(), done.getProblemId(), otherUsersProblem.getProblemId());
+
+        int deleted = problemService.deleteBulk(new BulkDelete(ids, null)).affected();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(problemRepository.existsById(otherUsersProblem.getProblemId())).isTrue();
+        assertThat(problemService.getChangesSince(token).deleted())
+                .containsExactlyInAnyOrder(todo.get(0).getProblemId(), done.getProblemId());
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(4, 4, 0, 0));
+    }
+
+    @Test
+    void deleteByStatusClearsThatStatusOnly() {
+        int deleted = problemService.deleteBulk(new BulkDelete(null, ProblemStatus.TODO)).affected();
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(problemRepository.countByUser(user)).isEqualTo(1);
+        assertThat(tombstoneRepository.count()).isEqualTo(5);
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(1, 0, 0, 1));
+    }
+
+    @Test
+    void deleteByStatusTombstonesEveryRowItDeletes() throws Exception {
+        CompletableFuture<Integer> deleting = transactionTemplate.execute(status -> {
+            // Holds a TODO row and moves the DONE row into TODO, both uncommitted
+            jdbcTemplate.update("update problem set comment = 'busy' where problem_id = ?", todo.get(0).getProblemId());
+            problemService.updateStatusBulk(new BulkStatusUpdate(List.of(done.getProblemId()), null, ProblemStatus.TODO));
+            CompletableFuture<Integer> delete = CompletableFuture.supplyAsync(() -> {
+                TestFixtures.signIn(user);
+                try {
+                    return problemService.deleteBulk(new BulkDelete(null, ProblemStatus.TODO)).affected();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            fixtures.awaitBlockedSession();
+            return delete;
+        });
+
+        int deleted = deleting.get(10, TimeUnit.SECONDS);
+        List<UUID> deletedIds = new ArrayList<>(todo.stream().map(Problem::getProblemId).toList());
+        deletedIds.add(done.getProblemId());
+        deletedIds.removeIf(problemRepository::existsById);
+        assertThat(deletedIds).hasSize(deleted);
+        assertThat(tombstoneRepository.findDeletedProblemIds(user.getUserId(), new Date(0)))
+                .containsExactlyInAnyOrderElementsOf(deletedIds);
+        assertThat(progress(user).total()).isEqualTo(6 - deleted);
+    }
+
+    @Test
+    void deleteDoneByStatusLeavesTombstones() {
+        int deleted = problemService.deleteBulk(new BulkDelete(null, ProblemStatus.DONE)).affected();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(problemRepository.existsById(done.getProblemId())).isFalse();
+        assertThat(tombstoneRepository.existsById(done.getProblemId())).isTrue();
+        assertThat(progress(user)).isEqualTo(new ProgressCounts(5, 5, 0, 0));
+    }
+
+    @Test
+    void rejectsAmbiguousOrMissingSelection() {
+        List<UUID> ids = List.of(done.getProblemId());
+
+        assertThatThrownBy(() -> problemService.updateStatusBulk(new BulkStatusUpdate(ids, ProblemStatus.TODO, ProblemStatus.DONE)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> problemService.updateStatusBulk(new BulkStatusUpdate(ids, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> problemService.deleteBulk(new BulkDelete(List.of(), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProgressCounts progress(User owner) {
+        return userProgressRepository.findById(owner.getUserId()).orElseThrow().toCounts();
+    }
+
+    private Problem createProblem(String name, ProblemStatus status) {
+        Problem problem = problemService.createProblem(Problem.builder()
+                .problemName(name)
+                .status(status)
+                .level(ProblemLevel.MEDIUM)
+                .build());
+        if (status == ProblemStatus.DONE) {
+            problem.setDoneTime(new Date());
+            problemRepository.save(problem);
+        }
+        return problem;
+    }
+}
@@ -0,0 +1,125 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProblemFilter;
+import com.leetcodetracker.code.dto.ProblemPage;
+import com.leetcodetracker.code.dto.ProblemSortField;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProblemServicePagingTests {
+
+    private static final ProblemFilter NO_FILTER = new ProblemFilter(null, null, null, null);
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createSignedInUser("pager", UserRole.USER);
+
+        // Two problems share each timestamp so the id tie breaker is exercised
+        List<Problem> problems = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            problems.add(Problem.builder()
+                    .problemName("Problem " + i)
+                    .status(i % 2 == 0 ? ProblemStatus.TODO : ProblemStatus.DONE)
+                    .level(ProblemLevel.MEDIUM)
+                    .timePosted(new Date(1_000_000L + (i / 2) * 1000L))
+                    .user(user)
+                    .build());
+        }
+        problemRepository.saveAll(problems);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void walksEveryRowExactlyOnceInSortOrder() {
+        List<UUID> seen = new ArrayList<>();
+        List<Date> postedTimes = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProblemPage page = problemService.getProblemsPage(
+                    NO_FILTER, ProblemSortField.TIME_POSTED, Sort.Direction.DESC, cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            page.items().forEach(problem -> {
+                seen.add(problem.problemId());
+                postedTimes.add(problem.timePosted());
+            });
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates();
+        assertThat(postedTimes).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void appliesStatusFilter() {
+        ProblemFilter todoOnly = new ProblemFilter(ProblemStatus.TODO, null, null, null);
+
+        ProblemPage page = problemService.getProblemsPage(
+                todoOnly, ProblemSortField.TIME_POSTED, Sort.Direction.ASC, null, 50);
+
+        assertThat(page.items()).hasSize(4).allMatch(problem -> problem.status() == ProblemStatus.TODO);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void pageSelectsColumnsWithoutLoadingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProblemPage page = problemService.getProblemsPage(
+                NO_FILTER, ProblemSortField.TIME_POSTED, Sort.Direction.DESC, null, 5);
+
+        assertThat(page.items()).hasSize(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsCursorFromDifferentSortOrder() {
+        String cursor = problemService.getProblemsPage(
+                NO_FILTER, ProblemSortField.TIME_POSTED, Sort.Direction.DESC, null, 2).nextCursor();
+
+        assertThatThrownBy(() -> problemService.getProblemsPage(
+                NO_FILTER, ProblemSortField.TIME_POSTED, Sort.Direction.ASC, cursor, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
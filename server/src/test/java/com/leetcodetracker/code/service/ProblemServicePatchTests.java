@@ -0,0 +1,123 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProblemPatch;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.RecordingStatementInspector;
+import com.leetcodetracker.code.repository.UserProgressRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+class ProblemServicePatchTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createUser("patcher", UserRole.USER);
+        userProgressService.initialize(user);
+        TestFixtures.signIn(user);
+        problem = problemService.createProblem(Problem.builder()
+                .problemName("Two Sum")
+                .comment("hash map")
+                .link("https://leetcode.com/problems/two-sum/")
+                .status(ProblemStatus.TODO)
+                .level(ProblemLevel.EASY)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void patchWritesOnlyTheChangedColumnsAndKeepsTheRest() {
+        RecordingStatementInspector.clear();
+
+        Problem patched = problemService.patchProblem(problem.getProblemId(),
+                new ProblemPatch(null, "two pointers", null, null, null, 0L)).orElseThrow();
+
+        List<String> updates = RecordingStatementInspector.statements().stream()
+                .filter(sql -> sql.startsWith("update problem")).toList();
+        assertThat(updates).singleElement().satisfies(sql -> assertThat(sql)
+                .contains("comment=?", "version=?")
+                .doesNotContain("problem_name", "link", "status", "level"));
+        assertThat(patched.getVersion()).isEqualTo(1L);
+        Problem stored = problemRepository.findById(problem.getProblemId()).orElseThrow();
+        assertThat(stored.getComment()).isEqualTo("two pointers");
+        assertThat(stored.getProblemName()).isEqualTo("Two Sum");
+        assertThat(stored.getLink()).isEqualTo("https://leetcode.com/problems/two-sum/");
+    }
+
+    @Test
+    void secondEditFromStaleVersionIsRefused() {
+        problemService.patchProblem(problem.getProblemId(), new ProblemPatch("Two Sum II", null, null, null, null, 0L));
+
+        // A second tab still holding version 0
+        assertThatThrownBy(() -> problemService.patchProblem(problem.getProblemId(),
+                new ProblemPatch(null, null, null, ProblemStatus.DONE, null, 0L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        Problem stored = problemRepository.findById(problem.getProblemId()).orElseThrow();
+        assertThat(stored.getProblemName()).isEqualTo("Two Sum II");
+        assertThat(stored.getStatus()).isEqualTo(ProblemStatus.TODO);
+    }
+
+    @Test
+    void statusPatchStampsDoneTimeAndMovesCounters() {
+        Problem patched = problemService.patchProblem(problem.getProblemId(),
+                new ProblemPatch(null, null, null, ProblemStatus.DONE, null, 0L)).orElseThrow();
+
+        assertThat(patched.getDoneTime()).isNotNull();
+        assertThat(userProgressRepository.findById(user.getUserId()).orElseThrow().toCounts())
+                .isEqualTo(new ProgressCounts(1, 0, 0, 1));
+    }
+
+    @Test
+    void noOpPatchWritesNothingAndUnknownIdIsEmpty() {
+        RecordingStatementInspector.clear();
+
+        Problem patched = problemService.patchProblem(problem.getProblemId(),
+                new ProblemPatch("Two Sum", null, null, ProblemStatus.TODO, null, 0L)).orElseThrow();
+
+        assertThat(patched.getVersion()).isZero();
+        assertThat(RecordingStatementInspector.statements()).noneMatch(sql -> sql.startsWith("update"));
+        assertThat(problemService.patchProblem(UUID.randomUUID(), new ProblemPatch(null, null, null, null, null, 0L)))
+                .isEmpty();
+        assertThatThrownBy(() -> problemService.patchProblem(problem.getProblemId(),
+                new ProblemPatch("x", null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
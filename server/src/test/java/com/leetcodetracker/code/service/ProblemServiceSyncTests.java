@@ -0,0 +1,98 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProblemChanges;
+import com.leetcodetracker.code.dto.ProblemResponse;
+import com.leetcodetracker.code.dto.ProblemSyncToken;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProblemServiceSyncTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private List<Problem> seeded;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        User user = fixtures.createSignedInUser("syncer", UserRole.USER);
+
+        seeded = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            seeded.add(problemService.createProblem(Problem.builder()
+                    .problemName("Problem " + i)
+                    .status(ProblemStatus.TODO)
+                    .level(ProblemLevel.EASY)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void withoutTokenReturnsFullListAsReset() {
+        ProblemChanges changes = problemService.getChangesSince(null);
+
+        assertThat(changes.reset()).isTrue();
+        assertThat(changes.changed()).hasSize(3);
+        assertThat(changes.nextToken()).isNotBlank();
+    }
+
+    @Test
+    void returnsOnlyRowsWrittenAfterTheToken() throws InterruptedException {
+        Thread.sleep(10);
+        String token = new ProblemSyncToken(new Date()).encode();
+        Thread.sleep(10);
+
+        Problem edited = seeded.get(0);
+        edited.setStatus(ProblemStatus.DONE);
+        problemService.updateProblem(edited.getProblemId(), edited);
+        problemService.deleteProblem(seeded.get(1).getProblemId());
+        Problem added = problemService.createProblem(Problem.builder()
+                .problemName("Problem new")
+                .status(ProblemStatus.DOING)
+                .level(ProblemLevel.HARD)
+                .build());
+
+        ProblemChanges changes = problemService.getChangesSince(token);
+
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.changed()).extracting(ProblemResponse::problemId)
+                .containsExactlyInAnyOrder(edited.getProblemId(), added.getProblemId());
+        assertThat(changes.deleted()).containsExactly(seeded.get(1).getProblemId());
+    }
+
+    @Test
+    void tokensOlderThanRetentionForceReset() {
+        String stale = new ProblemSyncToken(new Date(System.currentTimeMillis() - Duration.ofDays(31).toMillis())).encode();
+
+        assertThat(problemService.getChangesSince(stale).reset()).isTrue();
+        assertThatThrownBy(() -> problemService.getChangesSince("not-a-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
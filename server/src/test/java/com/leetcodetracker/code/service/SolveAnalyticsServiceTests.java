@@ -0,0 +1,161 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.BulkStatusUpdate;
+import com.leetcodetracker.code.dto.ProblemPatch;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse.BucketCount;
+import com.leetcodetracker.code.dto.SolveAnalyticsResponse.DayCount;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.SolveDay;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.SolveDayRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SolveAnalyticsServiceTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private SolveAnalyticsService solveAnalyticsService;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private SolveDayRepository solveDayRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createSignedInUser("solver", UserRole.USER);
+        userProgressService.initialize(user);
+        today = LocalDate.now(ZoneOffset.UTC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rollupsFollowEveryWritePath() {
+        Problem created = problemService.createProblem(problem("Created done", ProblemStatus.DONE, ProblemLevel.EASY));
+        Problem patched = problemService.createProblem(problem("Patched", ProblemStatus.TODO, ProblemLevel.HARD));
+        Problem updated = problemService.createProblem(problem("Updated", ProblemStatus.TODO, ProblemLevel.MEDIUM));
+        Problem bulk = problemService.createProblem(problem("Bulk", ProblemStatus.DOING, ProblemLevel.MEDIUM));
+
+        problemService.patchProblem(patched.getProblemId(), new ProblemPatch(null, null, null, ProblemStatus.DONE, null, 0L));
+        problemService.updateProblem(updated.getProblemId(), problem("Updated", ProblemStatus.DONE, ProblemLevel.MEDIUM));
+        problemService.updateStatusBulk(new BulkStatusUpdate(List.of(bulk.getProblemId()), null, ProblemStatus.DONE));
+        assertThat(solvedToday()).isEqualTo(4);
+
+        // Reopening and deleting take solves back out
+        problemService.updateProblem(updated.getProblemId(), problem("Updated", ProblemStatus.DOING, ProblemLevel.MEDIUM));
+        problemService.deleteProblem(created.getProblemId());
+
+        SolveAnalyticsResponse analytics = solveAnalyticsService.forUser(user.getUserId(), 7);
+        assertThat(analytics.solvesPerDay()).hasSize(7);
+        assertThat(solvedToday()).isEqualTo(2);
+        assertThat(analytics.currentStreak()).isEqualTo(1);
+        assertThat(analytics.timeToDone().get(ProblemLevel.HARD)).first().isEqualTo(new BucketCount("<1h", 1));
+        assertThat(analytics.timeToDone().get(ProblemLevel.MEDIUM)).first().isEqualTo(new BucketCount("<1h", 1));
+        assertThat(analytics.timeToDone().get(ProblemLevel.EASY)).allMatch(bucket -> bucket.solved() == 0);
+        assertThat(solveAnalyticsService.reconcile()).isZero();
+    }
+
+    @Test
+    void streaksAndWeeksComeFromDailyRollup() {
+        for (int daysAgo : new int[]{0, 1, 2, 10, 11, 12, 13, 14}) {
+            solveDayRepository.save(new SolveDay(user.getUserId(), today.minusDays(daysAgo), 2));
+        }
+
+        SolveAnalyticsResponse analytics = solveAnalyticsService.forUser(user.getUserId(), 30);
+
+        assertThat(analytics.currentStreak()).isEqualTo(3);
+        assertThat(analytics.longestStreak()).isEqualTo(5);
+        assertThat(analytics.solvesPerDay()).hasSize(30)
+                .extracting(DayCount::solved).containsOnly(0L, 2L);
+        assertThat(analytics.solvesPerWeek()).allMatch(week -> week.weekStart().getDayOfWeek().getValue() == 1);
+        assertThat(analytics.solvesPerWeek().stream().mapToLong(week -> week.solved()).sum()).isEqualTo(16);
+        assertThat(solveAnalyticsService.systemWide(30).longestStreak()).isEqualTo(5);
+    }
+
+    @Test
+    void reconcileBackfillsSolvesWrittenBehindTheServicesBack() {
+        Date doneTime = new Date();
+        problemRepository.save(Problem.builder()
+                .problemName("Imported elsewhere")
+                .status(ProblemStatus.DONE)
+                .level(ProblemLevel.HARD)
+                .timePosted(Date.from(doneTime.toInstant().minus(Duration.ofDays(2))))
+                .doneTime(doneTime)
+                .user(user)
+                .build());
+
+        assertThat(solveAnalyticsService.reconcile()).isEqualTo(1);
+
+        assertThat(solvedToday()).isEqualTo(1);
+        assertThat(solveAnalyticsService.forUser(user.getUserId(), 1).timeToDone().get(ProblemLevel.HARD))
+                .contains(new BucketCount("<3d", 1));
+        assertThat(solveAnalyticsService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileWaitsForWritersItCannotYetSee() throws Exception {
+        problemService.createProblem(problem("First", ProblemStatus.DONE, ProblemLevel.EASY));
+        solveDayRepository.save(new SolveDay(user.getUserId(), today, 6));
+
+        CompletableFuture<Integer> reconciling = transactionTemplate.execute(status -> {
+            problemService.createProblem(problem("Second", ProblemStatus.DONE, ProblemLevel.EASY));
+            CompletableFuture<Integer> concurrent = CompletableFuture.supplyAsync(solveAnalyticsService::reconcile);
+            fixtures.awaitBlockedSession();
+            return concurrent;
+        });
+
+        assertThat(reconciling.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(solvedToday()).isEqualTo(2);
+    }
+
+    private long solvedToday() {
+        List<DayCount> days = solveAnalyticsService.forUser(user.getUserId(), 1).solvesPerDay();
+        assertThat(days).singleElement().extracting(DayCount::date).isEqualTo(today);
+        return days.get(0).solved();
+    }
+
+    private static Problem problem(String name, ProblemStatus status, ProblemLevel level) {
+        return Problem.builder()
+                .problemName(name)
+                .status(status)
+                .level(level)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.leetcodetracker.code.service;
+
+import com.leetcodetracker.code.TestFixtures;
+import com.leetcodetracker.code.dto.ProgressCounts;
+import com.leetcodetracker.code.entity.Problem;
+import com.leetcodetracker.code.entity.ProblemLevel;
+import com.leetcodetracker.code.entity.ProblemStatus;
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserProgress;
+import com.leetcodetracker.code.entity.UserRole;
+import com.leetcodetracker.code.repository.ProblemRepository;
+import com.leetcodetracker.code.repository.UserProgressRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserProgressServiceTests {
+
+    @Autowired
+    private ProblemService problemService;
+    @Autowired
+    private UserProgressService userProgressService;
+    @Autowired
+    private ProblemRepository problemRepository;
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        fixtures.reset();
+        user = fixtures.createSignedInUser("counter", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void countersFollowCreateUpdateBulkAndDelete() {
+        Problem first = problemService.createProblem(problem("First", ProblemStatus.TODO));
+        Problem second = problemService.createProblem(problem("Second", ProblemStatus.DOING));
+        problemService.createProblemsBulk(List.of(problem("Third", ProblemStatus.DONE), problem("Fourth", ProblemStatus.TODO)));
+
+        problemService.updateProblem(first.getProblemId(), problem("First", ProblemStatus.DONE));
+        problemService.deleteProblem(second.getProblemId());
+
+        assertThat(counters()).isEqualTo(new ProgressCounts(3, 1, 0, 2));
+        assertThat(userProgressService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        problemService.createProblem(problem("First", ProblemStatus.TODO));
+        problemRepository.save(Problem.builder()
+                .problemName("Written behind the service's back")
+                .status(ProblemStatus.DONE)
+                .level(ProblemLevel.EASY)
+                .user(user)
+                .build());
+
+        assertThat(counters()).isEqualTo(new ProgressCounts(1, 1, 0, 0));
+        assertThat(userProgressService.reconcile()).isEqualTo(1);
+        assertThat(counters()).isEqualTo(new ProgressCounts(2, 1, 0, 1));
+    }
+
+    @Test
+    void startupReconcileRewritesExistingCounterRows() {
+        problemService.createProblem(problem("First", ProblemStatus.TODO));
+        UserProgress drifted = userProgressRepository.findById(user.getUserId()).orElseThrow();
+        drifted.setTotal(7);
+        drifted.setTodo(7);
+        userProgressRepository.save(drifted);
+
+        userProgressService.reconcileOnStartup();
+
+        assertThat(counters()).isEqualTo(new ProgressCounts(1, 1, 0, 0));
+    }
+
+    @Test
+    void concurrentFirstWritesForAUserBothCount() throws Exception {
+        CountDownLatch firstApplied = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(tx -> {
+            userProgressService.apply(user.getUserId(), ProgressCounts.forStatus(ProblemStatus.TODO, 1));
+            firstApplied.countDown();
+            sleep(200);
+        }));
+        firstApplied.await();
+        // Finds no committed row, so its insert meets the first one's uncommitted row
+        transactionTemplate.executeWithoutResult(tx ->
+                userProgressService.apply(user.getUserId(), ProgressCounts.forStatus(ProblemStatus.DONE, 1)));
+        first.join();
+
+        assertThat(counters()).isEqualTo(new ProgressCounts(2, 1, 0, 1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ProgressCounts counters() {
+        return userProgressRepository.findById(user.getUserId()).map(UserProgress::toCounts).orElseThrow();
+    }
+
+    private static Problem problem(String name, ProblemStatus status) {
+        return Problem.builder().problemName(name).status(status).level(ProblemLevel.MEDIUM).build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.leetcodetracker.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTests {
+
+    private final ExpiringLruCache<String, Object> cache = new ExpiringLruCache<>(10);
+
+    @Test
+    void getOrCreateKeepsLiveValueAndExtendsItsExpiry() {
+        long now = System.currentTimeMillis();
+        Object first = cache.getOrCreate("key", key -> new Object(), now + 60_000);
+
+        assertThat(cache.getOrCreate("key", key -> new Object(), now + 120_000)).isSameAs(first);
+        assertThat(cache.get("key")).isSameAs(first);
+    }
+
+    @Test
+    void getOrCreateReplacesExpiredValue() {
+        Object expired = cache.getOrCreate("key", key -> new Object(), System.currentTimeMillis() - 1);
+
+        assertThat(cache.getOrCreate("key", key -> new Object(), System.currentTimeMillis() + 60_000))
+                .isNotSameAs(expired);
+    }
+
+    @Test
+    void invalidatedValueIsNotRestoredByLaterUse() {
+        long now = System.currentTimeMillis();
+        Object stale = cache.getOrCreate("key", key -> new Object(), now + 60_000);
+        cache.invalidate("key");
+
+        Object fresh = cache.getOrCreate("key", key -> new Object(), now + 60_000);
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(cache.get("key")).isSameAs(fresh);
+    }
+}
@@ -0,0 +1,58 @@
+package com.leetcodetracker.code.util;
+
+import com.leetcodetracker.code.entity.User;
+import com.leetcodetracker.code.entity.UserRole;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTests {
+
+    private static final String SECRET = "unit-test-jwt-secret-key-that-is-long-enough-for-hs256";
+
+    private final User user = User.builder().username("alice").role(UserRole.USER).build();
+
+    @Test
+    void verifiesTokenAndReturnsSameClaimsFromCache() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 16, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken(user);
+
+        assertThat(jwtUtil.verify(token).getSubject()).isEqualTo("alice");
+        assertThat(jwtUtil.verify(token)).isSameAs(jwtUtil.verify(token));
+        assertThat(jwtUtil.validateToken(token, user)).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedTokenEvenAfterOriginalWasCached() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 16, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken(user);
+        jwtUtil.verify(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String foreign = new JwtUtil(SECRET + "-other", 60_000L, 16, new SimpleMeterRegistry()).generateToken(user);
+
+        assertThatThrownBy(() -> new JwtUtil(SECRET, 60_000L, 16, new SimpleMeterRegistry()).verify(foreign)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        // exp has second precision, so two seconds leaves at least one before expiry
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 2_000L, 16, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken(user);
+        long expiresAt = jwtUtil.verify(token).getExpiration().getTime();
+
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 100L);
+
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.leetcodetracker.code.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemTextIndexTests {
+
+    private final UUID twoSum = UUID.randomUUID();
+    private final UUID threeSum = UUID.randomUUID();
+    private final UUID trapping = UUID.randomUUID();
+    private final UUID notes = UUID.randomUUID();
+
+    private ProblemTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProblemTextIndex();
+        index.put(twoSum, "Two Sum", "hash map of complements");
+        index.put(threeSum, "3Sum", "sort then two pointers");
+        index.put(trapping, "Trapping Rain Water", "two pointers from both ends");
+        index.put(notes, "Valid Parentheses", "stack; revisit the two-sum variant");
+    }
+
+    @Test
+    void matchesPrefixesAndRanksNameAboveComment() {
+        // Equal scores fall back to the shorter name
+        assertThat(index.search("two", 10)).containsExactly(twoSum, threeSum, notes, trapping);
+        assertThat(index.search("trap", 10)).containsExactly(trapping);
+        assertThat(index.search("sum", 10)).containsExactly(threeSum, twoSum, notes);
+    }
+
+    @Test
+    void requiresEveryQueryWord() {
+        assertThat(index.search("two pointers", 10)).containsExactlyInAnyOrder(threeSum, trapping);
+    }
+
+    @Test
+    void toleratesTypos() {
+        assertThat(index.search("parenthesis", 10)).containsExactly(notes);
+        assertThat(index.search("tarpping", 10)).containsExactly(trapping);
+        assertThat(index.search("wtaer", 10)).containsExactly(trapping);
+    }
+
+    @Test
+    void foldsCaseAndAccents() {
+        index.put(twoSum, "Réseau Flow", null);
+
+        assertThat(index.search("RESEAU", 10)).containsExactly(twoSum);
+        assertThat(index.search("sum", 10)).doesNotContain(twoSum);
+    }
+
+    @Test
+    void removedDocumentsNoLongerMatch() {
+        index.remove(trapping);
+
+        assertThat(index.search("rain", 10)).isEmpty();
+        assertThat(index.search("pointers", 10)).containsExactly(threeSum);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void limitKeepsBestHits() {
+        assertThat(index.search("two", 2)).containsExactly(twoSum, threeSum);
+    }
+
+    @Test
+    void editDistanceCountsTranspositionAsOne() {
+        assertThat(ProblemTextIndex.editDistance("water", "wtaer", 2)).isEqualTo(1);
+        assertThat(ProblemTextIndex.editDistance("water", "wtare", 2)).isEqualTo(2);
+        assertThat(ProblemTextIndex.editDistance("water", "stack", 1)).isEqualTo(2);
+    }
+}